@@ -0,0 +1,49 @@
+package io.doe.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see KeyTool
+ * @since 2026-10-18
+ */
+
+public final class KeyTool {
+
+	private KeyTool() {
+		throw new UnsupportedOperationException("cannot create instance of this class");
+	}
+
+	/* keys <dir> [--force] | token <dir> <read|admin> [ttl] */
+	public static void main(final String[] args) throws Exception {
+
+		if (args.length >= 2 && "keys".equals(args[0])) {
+
+			final Path dir = Path.of(args[1]);
+			final boolean force = args.length > 2 && "--force".equals(args[2]);
+
+			if (!force && Files.exists(dir.resolve(TokenMinter.PRIVATE_KEY_FILE))) {
+				System.out.println("Key Pair Kept -> " + dir.toAbsolutePath()); return;
+			}
+
+			TokenMinter.writeKeyPair(dir);
+			System.out.println("Key Pair Written -> " + dir.toAbsolutePath());
+			return;
+		}
+
+		if (args.length >= 3 && "token".equals(args[0])) {
+
+			final String scope = "admin".equalsIgnoreCase(args[2]) ? TokenMinter.ADMIN_SCOPE : TokenMinter.READ_SCOPE;
+			final Duration ttl = args.length > 3 ? Duration.parse(args[3]) : Duration.ofHours(1);
+
+			System.out.println(TokenMinter.load(Path.of(args[1])).mint("loadtest", scope, ttl));
+			return;
+		}
+
+		System.err.println("usage: keys <dir> [--force] | token <dir> <read|admin> [ISO-8601 ttl]");
+		System.exit(2);
+	}
+}
@@ -0,0 +1,190 @@
+package io.doe.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see LoadGenerator
+ * @since 2026-10-18
+ */
+
+public final class LoadGenerator {
+
+	private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+	private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+	private static final double NANOS_PER_MILLI = 1_000_000d;
+
+	private final Settings settings;
+	private final List<Target> targets;
+	private final HttpClient client;
+	private final Semaphore inFlight;
+
+	private LoadGenerator(final Settings settings, final List<Target> targets, final HttpClient client) {
+		this.settings = settings; this.targets = targets; this.client = client; this.inFlight = new Semaphore(settings.maxInFlight);
+	}
+
+	record Settings(URI baseUri, List<String> paths, int rate, Duration warmup, Duration duration, Duration timeout, int maxInFlight, Path keyDir, Path reportDir) {
+
+		static Settings from(final String[] args) {
+
+			final Map<String, String> m = new HashMap<>();
+			Arrays.stream(args).map(a -> a.split("=", 2)).filter(kv -> kv.length == 2).forEach(kv -> m.put(kv[0], kv[1]));
+
+			return new Settings(URI.create(m.getOrDefault("target", "http://127.0.0.1:8888")),
+					List.of(m.getOrDefault("paths", "/rest/v1/resource/public,/rest/v1/resource/secret").split(",")),
+					Integer.parseInt(m.getOrDefault("rate", "200")), Duration.parse(m.getOrDefault("warmup", "PT10S")),
+					Duration.parse(m.getOrDefault("duration", "PT60S")), Duration.parse(m.getOrDefault("timeout", "PT5S")),
+					Integer.parseInt(m.getOrDefault("maxInFlight", "2000")), Path.of(m.getOrDefault("keyDir", "build/loadtest")),
+					Path.of(m.getOrDefault("reportDir", "build/reports/loadtest")));
+		}
+	}
+
+	/* one request shape with its own token, histogram and outcome counters */
+	static final class Target {
+
+		private final String path;
+		private final HttpRequest request;
+		private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+		private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+		private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+		private final LongAdder saturated = new LongAdder();
+
+		Target(final String path, final HttpRequest request) {
+			this.path = path; this.request = request;
+		}
+	}
+
+	public static void main(final String[] args) throws Exception {
+
+		final Settings settings = Settings.from(args);
+		final TokenMinter minter = TokenMinter.load(settings.keyDir);
+		final Duration ttl = settings.warmup.plus(settings.duration).plusMinutes(10);
+
+		final List<Target> targets = settings.paths.stream().map(p -> {
+			try {
+				final String scope = p.contains("/secret") ? TokenMinter.ADMIN_SCOPE : TokenMinter.READ_SCOPE;
+				return new Target(p, HttpRequest.newBuilder(settings.baseUri.resolve(p)).timeout(settings.timeout)
+						.header("Authorization", "Bearer " + minter.mint("loadtest", scope, ttl)).header("Accept", "application/json").GET().build());
+			} catch (final Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}).toList();
+
+		try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+			final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).connectTimeout(settings.timeout).build();
+			final LoadGenerator generator = new LoadGenerator(settings, targets, client);
+
+			generator.run();
+			generator.report();
+		}
+	}
+
+	/* open model : request i is due at start + i / rate whatever happened before, latency counts from that due time so stalls are not hidden */
+	private void run() throws InterruptedException {
+
+		final long interval = TimeUnit.SECONDS.toNanos(1) / settings.rate;
+		final long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+		final long measureFrom = start + settings.warmup.toNanos();
+		final long end = measureFrom + settings.duration.toNanos();
+
+		System.out.printf("Load -> %d req/s over %s for %s after %s warm-up%n", settings.rate, settings.paths, settings.duration, settings.warmup);
+
+		for (long i = 0; ; i++) {
+
+			final long due = start + i * interval;
+			if (due - end >= 0) { break; }
+
+			for (long now = System.nanoTime(); due - now > 0; now = System.nanoTime()) { LockSupport.parkNanos(due - now); }
+
+			final Target t = targets.get((int)(i % targets.size()));
+			final boolean measured = due - measureFrom >= 0;
+
+			if (!inFlight.tryAcquire()) {
+				if (measured) { t.saturated.increment(); }
+				continue;
+			}
+
+			client.sendAsync(t.request, HttpResponse.BodyHandlers.discarding()).whenComplete((r, e) -> {
+				final long latency = System.nanoTime() - due;
+				inFlight.release();
+				if (!measured) { return; }
+				if (e != null) { t.failures.computeIfAbsent(rootOf(e).getClass().getSimpleName(), k -> new LongAdder()).increment(); return; }
+				t.statuses.computeIfAbsent(r.statusCode(), k -> new LongAdder()).increment();
+				t.latency.recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+			});
+		}
+
+		if (!inFlight.tryAcquire(settings.maxInFlight, settings.timeout.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+			System.out.println("Some Requests Still In Flight After Drain Timeout");
+		}
+	}
+
+	private static Throwable rootOf(final Throwable e) {
+
+		Throwable t = e;
+		while (t.getCause() != null && t.getCause() != t) { t = t.getCause(); }
+
+		return t;
+	}
+
+	private void report() throws IOException {
+
+		final String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+		Files.createDirectories(settings.reportDir);
+
+		final Path summary = settings.reportDir.resolve("loadtest-" + stamp + ".txt");
+
+		try (final PrintStream out = new PrintStream(Files.newOutputStream(summary), true, StandardCharsets.UTF_8)) {
+
+			out.printf("target=%s rate=%d/s warmup=%s duration=%s timeout=%s maxInFlight=%d%n", settings.baseUri, settings.rate, settings.warmup, settings.duration, settings.timeout, settings.maxInFlight);
+
+			for (final Target t : targets) {
+
+				final Histogram h = t.latency;
+				final StringBuilder line = new StringBuilder();
+
+				line.append(String.format("%n%s%n  completed=%d achieved=%.1f/s failures=%s saturated=%d statuses=%s%n", t.path, h.getTotalCount(),
+						h.getTotalCount() / (double)settings.duration.toSeconds(), new TreeMap<>(t.failures), t.saturated.sum(), new TreeMap<>(t.statuses)));
+				line.append(String.format("  latency ms : mean=%.3f", h.getMean() / NANOS_PER_MILLI));
+
+				for (final double p : PERCENTILES) { line.append(String.format(" p%s=%.3f", p, h.getValueAtPercentile(p) / NANOS_PER_MILLI)); }
+				line.append(String.format(" max=%.3f%n", h.getMaxValue() / NANOS_PER_MILLI));
+
+				out.print(line); System.out.print(line);
+
+				final Path hgrm = settings.reportDir.resolve("loadtest-" + stamp + t.path.replaceAll("[^A-Za-z0-9]+", "-") + ".hgrm");
+				try (final PrintStream ps = new PrintStream(Files.newOutputStream(hgrm), true, StandardCharsets.UTF_8)) { h.outputPercentileDistribution(ps, NANOS_PER_MILLI); }
+			}
+		}
+
+		System.out.println("\nReport -> " + summary.toAbsolutePath());
+	}
+}
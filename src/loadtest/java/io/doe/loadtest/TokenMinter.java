@@ -0,0 +1,75 @@
+package io.doe.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see TokenMinter
+ * @since 2026-10-18
+ */
+
+public final class TokenMinter {
+
+	public static final String PRIVATE_KEY_FILE = "rsa.key";
+	public static final String PUBLIC_KEY_FILE = "rsa.pub";
+	public static final String READ_SCOPE = "resource:read";
+	public static final String ADMIN_SCOPE = "resource:read ADMIN";
+
+	private final PrivateKey key;
+
+	private TokenMinter(final PrivateKey key) {
+		this.key = key;
+	}
+
+	/* same encodings the server reads through base.auth.rsa-path : base64 x509 public key, base64 pkcs8 private key beside it */
+	public static void writeKeyPair(final Path dir) throws IOException, GeneralSecurityException {
+
+		final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		final KeyPair keys = generator.generateKeyPair();
+
+		Files.createDirectories(dir);
+		Files.writeString(dir.resolve(PUBLIC_KEY_FILE), Base64.getEncoder().encodeToString(keys.getPublic().getEncoded()), StandardCharsets.US_ASCII);
+		Files.writeString(dir.resolve(PRIVATE_KEY_FILE), Base64.getEncoder().encodeToString(keys.getPrivate().getEncoded()), StandardCharsets.US_ASCII);
+	}
+
+	public static TokenMinter load(final Path dir) throws IOException, GeneralSecurityException {
+
+		final byte[] encoded = Base64.getMimeDecoder().decode(Files.readString(dir.resolve(PRIVATE_KEY_FILE), StandardCharsets.US_ASCII).strip());
+		return new TokenMinter(KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(encoded)));
+	}
+
+	public String mint(final String subject, final String scope, final Duration ttl) throws JOSEException {
+
+		final Instant now = Instant.now();
+		final JWTClaimsSet claims = new JWTClaimsSet.Builder().subject(subject).claim("scope", scope).jwtID(UUID.randomUUID().toString())
+				.issueTime(Date.from(now)).notBeforeTime(Date.from(now)).expirationTime(Date.from(now.plus(ttl))).build();
+
+		final SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+		jwt.sign(new RSASSASigner(key));
+
+		return jwt.serialize();
+	}
+}
@@ -1,5 +1,7 @@
 package io.doe.common;
 
+import org.springframework.lang.Nullable;
+
 import java.io.Serial;
 
 /**
@@ -19,4 +21,7 @@ public class BaseException extends RuntimeException {
 	public BaseException(final String message, final Throwable cause) {
 		super(message, cause);
 	}
+	protected BaseException(final String message, @Nullable final Throwable cause, final boolean writableStackTrace) {
+		super(message, cause, false, writableStackTrace);
+	}
 }
@@ -3,10 +3,10 @@ package io.doe.common;
 import io.doe.domain.BaseRes;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
 import org.springframework.beans.ConversionNotSupportedException;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -40,9 +40,14 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 import org.springframework.web.util.WebUtils;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
@@ -58,13 +63,28 @@ import static org.springframework.web.context.request.RequestAttributes.SCOPE_RE
 public class BaseExceptionHandler {
 
 	private static final String TYPE_MISMATCH_CODE = "TypeMismatch";
+	private static final MessageKey TYPE_MISMATCH_KEY = MessageKey.validation(TYPE_MISMATCH_CODE);
+	private static final ClassValue<MessageKey> VALIDATION_KEYS = new ClassValue<>() {
+		@Override protected MessageKey computeValue(final Class<?> type) { return MessageKey.validation(type.getSimpleName()); }
+	};
 	private static final String BAD_REQUEST_MESSAGE = "Invalid Parameters Found";
+	private static final long TRACE_INTERVAL_NANOS = Duration.ofSeconds(10).toNanos();
 
-	private final MessageSourceAccessor accessor;
+	private static final BaseRes<Void> BAD_REQUEST_RES = BaseRes.from(HttpStatus.BAD_REQUEST.getReasonPhrase());
+	private static final BaseRes<Void> INTERNAL_SERVER_ERROR_RES = BaseRes.from(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+	private static final BaseRes<Void> NOT_READABLE_RES = BaseRes.from("Failed to read request");
+	private static final BaseRes<Void> NOT_WRITABLE_RES = BaseRes.from("Failed to write request");
+	private static final BaseRes<Void> BINDING_FAILURE_RES = BaseRes.from("Unrecoverable fatal binding exception occurred");
+	private static final BaseRes<Void> METHOD_VALIDATION_RES = BaseRes.from("Method validation failed");
+	private static final BaseRes<Void> ASYNC_REJECTED_RES = BaseRes.from("Asynchronous request rejected");
+	private static final BaseRes<Void> ASYNC_TIMEOUT_RES = BaseRes.from("Asynchronous request time out");
+
+	private final MessageResolver resolver;
+	private final Map<Class<?>, AtomicLong> nextTraceAt = new ConcurrentHashMap<>();
 
 	@Autowired
-	public BaseExceptionHandler(final MessageSourceAccessor accessor) {
-		this.accessor = accessor;
+	public BaseExceptionHandler(final MessageResolver resolver) {
+		this.resolver = resolver;
 	}
 
 	@Nullable
@@ -83,7 +103,7 @@ public class BaseExceptionHandler {
 			case MissingServletRequestPartException ee -> { return processMissingServletRequestPartException(ee, wr); }
 			case ServletRequestBindingException ee -> { return processServletRequestBindingException(ee, wr); }
 			case TypeMismatchException ee -> { return processTypeMismatchException(ee, wr); }
-			default -> { return response(e, wr, BaseRes.from(HttpStatus.BAD_REQUEST.getReasonPhrase()), HttpStatus.BAD_REQUEST); }
+			default -> { return response(e, wr, BAD_REQUEST_RES, HttpStatus.BAD_REQUEST); }
 		}
 	}
 
@@ -96,7 +116,7 @@ public class BaseExceptionHandler {
 			return response(e, wr, BaseRes.from("URI path variable " + ee.getVariableName() + " is not present"), HttpStatus.BAD_REQUEST);
 		}
 
-		return response(e, wr, BaseRes.from(HttpStatus.BAD_REQUEST.getReasonPhrase()), HttpStatus.BAD_REQUEST);
+		return response(e, wr, BAD_REQUEST_RES, HttpStatus.BAD_REQUEST);
 	}
 
 	@Nullable
@@ -108,7 +128,7 @@ public class BaseExceptionHandler {
 
 	@Nullable
 	@ResponseStatus(HttpStatus.NOT_FOUND)
-	@ExceptionHandler({NoHandlerFoundException.class, NoResourceFoundException.class})
+	@ExceptionHandler({NoHandlerFoundException.class, NoResourceFoundException.class, ResourceNotFoundException.class})
 	public BaseRes<Void> processNotFoundError(final Exception e, final WebRequest wr) {
 		return response(e, wr, BaseRes.from(e.getMessage()), HttpStatus.NOT_FOUND);
 	}
@@ -152,7 +172,7 @@ public class BaseExceptionHandler {
 			case HttpMessageNotWritableException ee -> { return processHttpMessageNotWritableException(ee, wr); }
 			case IllegalArgumentException ee -> { return processIllegalArgumentException(ee, wr); }
 			case MethodValidationException ee -> { return processMethodValidationException(ee, wr); }
-			default -> { return response(e, wr, BaseRes.from(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase()), HttpStatus.INTERNAL_SERVER_ERROR); }
+			default -> { return response(e, wr, INTERNAL_SERVER_ERROR_RES, HttpStatus.INTERNAL_SERVER_ERROR); }
 		}
 	}
 
@@ -167,21 +187,26 @@ public class BaseExceptionHandler {
 	@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
 	@ExceptionHandler({DataAccessException.class, TransactionException.class})
 	public BaseRes<Void> processDatabaseError(final Exception e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase()), HttpStatus.INTERNAL_SERVER_ERROR);
+		return response(e, wr, INTERNAL_SERVER_ERROR_RES, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 
 	@Nullable
 	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
-	@ExceptionHandler(AsyncRequestTimeoutException.class)
+	@ExceptionHandler({AsyncRequestTimeoutException.class, RejectedExecutionException.class})
 	public BaseRes<Void> processServiceUnavailableError(final Exception e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from("Asynchronous request time out"), HttpStatus.INTERNAL_SERVER_ERROR);
+
+		if (e instanceof RejectedExecutionException) {
+			return response(e, wr, ASYNC_REJECTED_RES, HttpStatus.SERVICE_UNAVAILABLE);
+		}
+
+		return response(e, wr, ASYNC_TIMEOUT_RES, HttpStatus.SERVICE_UNAVAILABLE);
 	}
 
 	@Nullable
 	@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
 	@ExceptionHandler(Exception.class)
 	public BaseRes<Void> processRemainderError(final Exception e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase()), HttpStatus.INTERNAL_SERVER_ERROR);
+		return response(e, wr, INTERNAL_SERVER_ERROR_RES, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 
 	@Nullable
@@ -196,7 +221,7 @@ public class BaseExceptionHandler {
 			final Optional<String> dm = Optional.ofNullable(oe.getDefaultMessage());
 			final String[] codes = Optional.ofNullable(oe.getCodes()).orElse(new String[]{});
 
-			return Arrays.stream(codes).map(c -> accessor.getMessage(c, oe.getArguments(), "")).filter(StringUtils::hasText).findFirst()
+			return Arrays.stream(codes).map(c -> resolver.resolveOrDefault(new MessageKey(c), "", oe.getArguments())).filter(StringUtils::hasText).findFirst()
 					.orElseGet(() -> (oe instanceof FieldError fe) ? retrieveMessageFromFieldError(fe, dm) : dm.orElse(BAD_REQUEST_MESSAGE));
 		}
 
@@ -206,7 +231,7 @@ public class BaseExceptionHandler {
 	private String retrieveMessageFromFieldError(final FieldError error, final Optional<String> message) {
 
 		if (TYPE_MISMATCH_CODE.equalsIgnoreCase(error.getCode())) {
-			return retrieveValidationErrorMessage(TYPE_MISMATCH_CODE, error.getField(), String.valueOf(error.getRejectedValue()));
+			return retrieveValidationErrorMessage(TYPE_MISMATCH_KEY, error.getField(), String.valueOf(error.getRejectedValue()));
 		}
 
 		return message.map(m -> error.getField() + ": " + m).orElse(BAD_REQUEST_MESSAGE);
@@ -222,50 +247,50 @@ public class BaseExceptionHandler {
 
 	@Nullable
 	private BaseRes<Void> processHttpMessageNotReadableException(final HttpMessageNotReadableException e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from("Failed to read request"), HttpStatus.BAD_REQUEST);
+		return response(e, wr, NOT_READABLE_RES, HttpStatus.BAD_REQUEST);
 	}
 
 	@Nullable
 	private BaseRes<Void> processMissingServletRequestParameterException(final MissingServletRequestParameterException e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from(retrieveValidationErrorMessage(e.getClass().getSimpleName(), e.getParameterType(), e.getParameterName())), HttpStatus.BAD_REQUEST);
+		return response(e, wr, BaseRes.from(retrieveValidationErrorMessage(VALIDATION_KEYS.get(e.getClass()), e.getParameterType(), e.getParameterName())), HttpStatus.BAD_REQUEST);
 	}
 
 	@Nullable
 	private BaseRes<Void> processMissingServletRequestPartException(final MissingServletRequestPartException e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from(retrieveValidationErrorMessage(e.getClass().getSimpleName(), e.getRequestPartName())), HttpStatus.BAD_REQUEST);
+		return response(e, wr, BaseRes.from(retrieveValidationErrorMessage(VALIDATION_KEYS.get(e.getClass()), e.getRequestPartName())), HttpStatus.BAD_REQUEST);
 	}
 
 	@Nullable
 	private BaseRes<Void> processServletRequestBindingException(final ServletRequestBindingException e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from("Unrecoverable fatal binding exception occurred"), HttpStatus.BAD_REQUEST);
+		return response(e, wr, BINDING_FAILURE_RES, HttpStatus.BAD_REQUEST);
 	}
 
 	@Nullable
 	private BaseRes<Void> processTypeMismatchException(final TypeMismatchException e, final WebRequest wr) {
 
-		final String message = retrieveValidationErrorMessage(e.getClass().getSimpleName(),
+		final String message = retrieveValidationErrorMessage(VALIDATION_KEYS.get(e.getClass()),
 				e.getRequiredType(), (e instanceof MethodArgumentTypeMismatchException ee) ? ee.getName() : e.getPropertyName(), e.getValue());
 		return response(e, wr, BaseRes.from(message), HttpStatus.BAD_REQUEST);
 	}
 
 	@Nullable
 	private BaseRes<Void> processConversionNotSupportedException(final TypeMismatchException e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from(retrieveValidationErrorMessage(e.getClass().getSimpleName(), e.getRequiredType(), e.getPropertyName(), e.getValue())), HttpStatus.INTERNAL_SERVER_ERROR);
+		return response(e, wr, BaseRes.from(retrieveValidationErrorMessage(VALIDATION_KEYS.get(e.getClass()), e.getRequiredType(), e.getPropertyName(), e.getValue())), HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 
 	@Nullable
 	private BaseRes<Void> processHttpMessageNotWritableException(final HttpMessageNotWritableException e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from("Failed to write request"), HttpStatus.INTERNAL_SERVER_ERROR);
+		return response(e, wr, NOT_WRITABLE_RES, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 
 	@Nullable
 	private BaseRes<Void> processIllegalArgumentException(final IllegalArgumentException e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase()), HttpStatus.INTERNAL_SERVER_ERROR);
+		return response(e, wr, INTERNAL_SERVER_ERROR_RES, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 
 	@Nullable
 	private BaseRes<Void> processMethodValidationException(final MethodValidationException e, final WebRequest wr) {
-		return response(e, wr, BaseRes.from("Method validation failed"), HttpStatus.INTERNAL_SERVER_ERROR);
+		return response(e, wr, METHOD_VALIDATION_RES, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 
 	private void printError(final Exception e, final String message, final HttpStatus status) {
@@ -273,16 +298,37 @@ public class BaseExceptionHandler {
 		log.debug("status code : {} | message : {}", status.value(), message);
 
 		if (HttpStatus.BAD_REQUEST.value() == status.value()) {
-			log.debug("", e); return;
+			printTrace(Level.DEBUG, e); return;
 		}
 		if (HttpStatus.Series.CLIENT_ERROR == HttpStatus.Series.resolve(status.value())) {
-			log.info("", e); return;
+			printTrace(Level.INFO, e); return;
 		}
 		if (e instanceof BaseException && Objects.nonNull(e.getCause())) {
-			log.warn("", e.getCause()); return;
+			printTrace(Level.WARN, e.getCause()); return;
+		}
+
+		printTrace(Level.WARN, e);
+	}
+
+	/* a full stack trace at most once per exception type and interval, a single line otherwise */
+	private void printTrace(final Level level, final Throwable t) {
+
+		if (!log.isEnabledForLevel(level)) { return; }
+
+		if (!(t instanceof StacklessException) && sampleTrace(t.getClass())) {
+			log.atLevel(level).setCause(t).log(""); return;
 		}
 
-		log.warn("", e);
+		log.atLevel(level).log("{}: {}", t.getClass().getName(), t.getMessage());
+	}
+
+	private boolean sampleTrace(final Class<?> type) {
+
+		final long now = System.nanoTime();
+		final AtomicLong next = nextTraceAt.computeIfAbsent(type, k -> new AtomicLong(now));
+		final long at = next.get();
+
+		return now - at >= 0 && next.compareAndSet(at, now + TRACE_INTERVAL_NANOS);
 	}
 
 	private boolean responseCommitted(final Exception e, final WebRequest wr) {
@@ -310,7 +356,7 @@ public class BaseExceptionHandler {
 		return res;
 	}
 
-	private String retrieveValidationErrorMessage(final String prop, @Nullable final Object... arr) {
-		return accessor.getMessage(Constants.BASE_PACKAGE + ".validation.exceptions." + prop + ".message", arr, Constants.DEFAULT_EXCEPTION_MESSAGE);
+	private String retrieveValidationErrorMessage(final MessageKey key, @Nullable final Object... arr) {
+		return resolver.resolve(key, arr);
 	}
 }
@@ -0,0 +1,69 @@
+package io.doe.common;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see JsonCodecs
+ * @since 2026-10-18
+ */
+
+public class JsonCodecs {
+
+	private final ObjectMapper mapper;
+	private final CsvMapper csv;
+	private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+	private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	public JsonCodecs(final ObjectMapper mapper, final CsvMapper csv) {
+		this.mapper = mapper; this.csv = csv;
+	}
+
+	public ObjectMapper mapper() {
+		return mapper;
+	}
+
+	public JavaType type(final Class<?> raw, final Class<?>... parameters) {
+		return parameters.length == 0 ? mapper.constructType(raw) : mapper.getTypeFactory().constructParametricType(raw, parameters);
+	}
+
+	public JavaType type(final Type type) {
+		return mapper.constructType(type);
+	}
+
+	/* writers are immutable and resolve the root serializer when created, so one per type is kept and shared */
+	public ObjectWriter writer(final JavaType type) {
+		return writers.computeIfAbsent(type, mapper::writerFor);
+	}
+
+	public ObjectWriter writer(final Class<?> raw, final Class<?>... parameters) {
+		return writer(type(raw, parameters));
+	}
+
+	public ObjectReader reader(final JavaType type) {
+		return readers.computeIfAbsent(type, mapper::readerFor);
+	}
+
+	public ObjectReader reader(final Class<?> raw, final Class<?>... parameters) {
+		return reader(type(raw, parameters));
+	}
+
+	public ObjectReader csvReader(final Class<?> raw) {
+		return csv.readerFor(raw);
+	}
+
+	/* resolves serializers into the mapper cache ahead of the first request */
+	public void warm(final Collection<JavaType> types) {
+		types.forEach(this::writer);
+	}
+}
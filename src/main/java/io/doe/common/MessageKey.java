@@ -0,0 +1,19 @@
+package io.doe.common;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MessageKey
+ * @since 2026-10-18
+ */
+
+public record MessageKey(String code) {
+
+	public static MessageKey service(final String k) {
+		return new MessageKey(Constants.BASE_PACKAGE + ".service." + k);
+	}
+
+	public static MessageKey validation(final String k) {
+		return new MessageKey(Constants.BASE_PACKAGE + ".validation.exceptions." + k + ".message");
+	}
+}
@@ -0,0 +1,72 @@
+package io.doe.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MessageResolver
+ * @since 2026-10-18
+ */
+
+public class MessageResolver {
+
+	private static final int MAX_TEMPLATES = 1024;
+
+	private final MessageSource source;
+	private final Cache<Entry, Template> templates = Caffeine.newBuilder().maximumSize(MAX_TEMPLATES).build();
+
+	private record Entry(MessageKey key, Locale locale) { /* cache key */ }
+
+	private record Template(@Nullable String raw, @Nullable MessageFormat format) { /* raw text and its parsed form, both null when undefined */ }
+
+	public MessageResolver(final MessageSource source) {
+		this.source = source;
+	}
+
+	public String resolve(final MessageKey key, @Nullable final Object... args) {
+		return resolveOrDefault(key, Constants.DEFAULT_EXCEPTION_MESSAGE, args);
+	}
+
+	/* the bundle lookup and the pattern parse happen once per key and locale, a format call only clones the parsed template */
+	public String resolveOrDefault(final MessageKey key, final String defaultMessage, @Nullable final Object... args) {
+
+		final Locale locale = LocaleContextHolder.getLocale();
+		final Template t = templates.get(new Entry(key, locale), e -> compile(e.key(), e.locale()));
+
+		if (Objects.isNull(t.raw())) { return defaultMessage; }
+		if (ObjectUtils.isEmpty(args) || Objects.isNull(t.format())) { return t.raw(); }
+
+		return ((MessageFormat)t.format().clone()).format(resolveArguments(args, locale));
+	}
+
+	private Object[] resolveArguments(final Object[] args, final Locale locale) {
+
+		Object[] resolved = args;
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] instanceof MessageSourceResolvable r) {
+				if (resolved == args) { resolved = args.clone(); }
+				resolved[i] = source.getMessage(r, locale);
+			}
+		}
+
+		return resolved;
+	}
+
+	private Template compile(final MessageKey key, final Locale locale) {
+
+		final String raw = source.getMessage(key.code(), null, null, locale);
+		return new Template(raw, Objects.isNull(raw) ? null : new MessageFormat(raw, locale));
+	}
+}
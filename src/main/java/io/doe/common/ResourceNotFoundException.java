@@ -0,0 +1,19 @@
+package io.doe.common;
+
+import java.io.Serial;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ResourceNotFoundException
+ * @since 2026-10-18
+ */
+
+public class ResourceNotFoundException extends StacklessException {
+
+	@Serial private static final long serialVersionUID = 1L;
+
+	public ResourceNotFoundException(final String message) {
+		super(message);
+	}
+}
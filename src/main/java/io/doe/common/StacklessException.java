@@ -0,0 +1,22 @@
+package io.doe.common;
+
+import java.io.Serial;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see StacklessException
+ * @since 2026-10-18
+ */
+
+public class StacklessException extends BaseException {
+
+	@Serial private static final long serialVersionUID = 1L;
+
+	public StacklessException(final String message) {
+		super(message, null, false);
+	}
+	public StacklessException(final String message, final Throwable cause) {
+		super(message, cause, false);
+	}
+}
@@ -0,0 +1,98 @@
+package io.doe.config;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see AsyncConfig
+ * @since 2026-10-18
+ */
+
+@Configuration
+@EnableConfigurationProperties(BaseProperties.Async.class)
+public class AsyncConfig {
+
+	public static final String RESOURCE_TASK_EXECUTOR = "resourceTaskExecutor";
+	public static final String FEED_TASK_EXECUTOR = "feedTaskExecutor";
+
+	private final BaseProperties.Async props;
+
+	@Autowired
+	public AsyncConfig(final BaseProperties.Async props) {
+		this.props = props;
+	}
+
+	@Bean(RESOURCE_TASK_EXECUTOR)
+	public ThreadPoolTaskExecutor resourceTaskExecutor(final ThreadPoolTaskExecutorBuilder builder, final ObjectProvider<TaskDecorator> decorators) {
+
+		return builder.corePoolSize(props.getCorePoolSize()).maxPoolSize(props.getMaxPoolSize())
+				.queueCapacity(props.getQueueCapacity()).keepAlive(props.getKeepAlive()).allowCoreThreadTimeOut(false)
+				.threadNamePrefix(props.getThreadNamePrefix()).taskDecorator(decorator(decorators)).awaitTermination(true).build();
+	}
+
+	/* change feed drains wait on slow sse clients, so they get their own threads and never starve the async endpoints */
+	@Bean(FEED_TASK_EXECUTOR)
+	public ThreadPoolTaskExecutor feedTaskExecutor(final ThreadPoolTaskExecutorBuilder builder, final ObjectProvider<TaskDecorator> decorators, final BaseProperties.Feed feed) {
+
+		return builder.corePoolSize(feed.getPoolSize()).maxPoolSize(feed.getPoolSize())
+				.queueCapacity(feed.getQueueCapacity()).keepAlive(props.getKeepAlive()).allowCoreThreadTimeOut(true)
+				.threadNamePrefix("feed-async-").taskDecorator(decorator(decorators)).awaitTermination(false).build();
+	}
+
+	private static TaskDecorator decorator(final ObjectProvider<TaskDecorator> decorators) {
+
+		final List<TaskDecorator> chain = new ArrayList<>();
+		chain.add(new ContextCopyingTaskDecorator()); decorators.orderedStream().forEach(chain::add);
+
+		return new CompositeTaskDecorator(chain);
+	}
+
+	@Bean
+	public WebMvcConfigurer asyncSupportConfigurer(@Qualifier(RESOURCE_TASK_EXECUTOR) final ThreadPoolTaskExecutor executor) {
+
+		return new WebMvcConfigurer() {
+			@Override
+			public void configureAsyncSupport(final AsyncSupportConfigurer c) { c.setTaskExecutor(executor); }
+		};
+	}
+
+	static class ContextCopyingTaskDecorator implements TaskDecorator {
+
+		@Override
+		public Runnable decorate(final Runnable runnable) {
+
+			final Map<String, String> mdc = MDC.getCopyOfContextMap();
+			final LocaleContext lc = LocaleContextHolder.getLocaleContext();
+
+			return () -> {
+				try {
+					if (Objects.nonNull(mdc)) { MDC.setContextMap(mdc); }
+					LocaleContextHolder.setLocaleContext(lc);
+					runnable.run();
+				} finally {
+					MDC.clear(); LocaleContextHolder.resetLocaleContext();
+				}
+			};
+		}
+	}
+}
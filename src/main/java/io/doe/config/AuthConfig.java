@@ -1,7 +1,8 @@
 package io.doe.config;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.doe.common.JsonCodecs;
 import io.doe.domain.BaseRes;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,7 +17,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.lang.Nullable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authorization.AuthorityAuthorizationManager;
@@ -43,8 +43,8 @@ import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.ResourceUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPublicKey;
@@ -71,7 +71,9 @@ public class AuthConfig {
 
 	@Bean
 	public SecurityFilterChain resourceServerFilterChain(
-			final HttpSecurity http, final Jackson2ObjectMapperBuilder builder) throws Exception {
+			final HttpSecurity http, final JsonCodecs codecs) throws Exception {
+
+		final ObjectWriter writer = codecs.writer(BaseRes.class);
 
 		http.cors(Customizer.withDefaults()).formLogin(AbstractHttpConfigurer::disable);
 		http.csrf(AbstractHttpConfigurer::disable).httpBasic(AbstractHttpConfigurer::disable);
@@ -80,26 +82,30 @@ public class AuthConfig {
 
 		http.authorizeHttpRequests(rc -> rc.requestMatchers("/error").permitAll());
 		http.securityMatcher("/rest/**").authorizeHttpRequests(rc -> {
-			rc.requestMatchers(HttpMethod.GET, "/rest/v1/resource/public").hasAuthority("SCOPE_resource:read");
-			rc.requestMatchers("/rest/v1/resource/secret").access(AuthorizationManagers.allOf(AuthorityAuthorizationManager.hasAuthority("SCOPE_ADMIN"))).anyRequest().authenticated();
+			rc.requestMatchers(HttpMethod.POST, "/rest/v1/resource/*/_bulk", "/rest/v1/resource/*/_upload").hasAuthority("SCOPE_ADMIN");
+			rc.requestMatchers(HttpMethod.POST, "/rest/v1/resource/public/_mget").hasAuthority("SCOPE_resource:read");
+			rc.requestMatchers(HttpMethod.GET, "/rest/v1/resource/public", "/rest/v1/resource/public/**").hasAuthority("SCOPE_resource:read");
+			rc.requestMatchers("/rest/v1/resource/secret", "/rest/v1/resource/secret/**").access(AuthorizationManagers.allOf(AuthorityAuthorizationManager.hasAuthority("SCOPE_ADMIN"))).anyRequest().authenticated();
 		});
 
 		http.oauth2ResourceServer(rsc -> {
-			rsc.accessDeniedHandler(new ForbiddenAccessDeniedHandler(builder.build()));
-			rsc.authenticationEntryPoint(new BearerTokenUnauthorizedAuthenticationEntryPoint(builder.build()));
+			rsc.accessDeniedHandler(new ForbiddenAccessDeniedHandler(writer));
+			rsc.authenticationEntryPoint(new BearerTokenUnauthorizedAuthenticationEntryPoint(writer));
 			rsc.jwt(new Customizer<>() { @Override @SneakyThrows
 				public void customize(final OAuth2ResourceServerConfigurer<HttpSecurity>.JwtConfigurer c) { c.decoder(jwtDecoder()); }
 			});
 		});
 
-		http.exceptionHandling(createExceptionConfigurerCustomizer(builder.build()));
+		http.exceptionHandling(createExceptionConfigurerCustomizer(writer));
 
 		return http.build();
 	}
 
 	@Bean
 	public JwtDecoder jwtDecoder() throws NoSuchAlgorithmException, IOException, InvalidKeySpecException {
-		return NimbusJwtDecoder.withPublicKey((RSAPublicKey)KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.decodeBase64(Files.readAllBytes(ResourceUtils.getFile(props.getRsaPath()).toPath()))))).build();
+		try (final InputStream is = ResourceUtils.getURL(props.getRsaPath()).openStream()) {
+			return NimbusJwtDecoder.withPublicKey((RSAPublicKey)KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.decodeBase64(is.readAllBytes())))).build();
+		}
 	}
 
 	@Bean
@@ -120,23 +126,23 @@ public class AuthConfig {
 			response.setCharacterEncoding(StandardCharsets.UTF_8.name());
 
 			try {
-				response.getWriter().write(retrieveObjectMapper().writeValueAsString(BaseRes.from(message)));
+				response.getWriter().write(retrieveWriter().writeValueAsString(BaseRes.from(message)));
 			} catch (final JsonProcessingException e) {
 				retrieveLogger().trace("", e); response.getWriter().write(message);
 			}
 		}
 
 		Logger retrieveLogger();
-		ObjectMapper retrieveObjectMapper();
+		ObjectWriter retrieveWriter();
 	}
 
 	@Slf4j
 	static class BearerTokenUnauthorizedAuthenticationEntryPoint implements AuthenticationEntryPoint, ForbiddenResponseSender {
 
-		private final ObjectMapper mapper;
+		private final ObjectWriter writer;
 
-		BearerTokenUnauthorizedAuthenticationEntryPoint(final ObjectMapper mapper) {
-			this.mapper = mapper;
+		BearerTokenUnauthorizedAuthenticationEntryPoint(final ObjectWriter writer) {
+			this.writer = writer;
 		}
 
 		@Override
@@ -146,7 +152,7 @@ public class AuthConfig {
 		}
 
 		@Override public Logger retrieveLogger() { return log; }
-		@Override public ObjectMapper retrieveObjectMapper() { return mapper; }
+		@Override public ObjectWriter retrieveWriter() { return writer; }
 
 		private String findJwtErrorMessageFrom(@Nullable final Throwable e) {
 
@@ -161,10 +167,10 @@ public class AuthConfig {
 	@Slf4j
 	static class ForbiddenAccessDeniedHandler implements AccessDeniedHandler, ForbiddenResponseSender {
 
-		private final ObjectMapper mapper;
+		private final ObjectWriter writer;
 
-		ForbiddenAccessDeniedHandler(final ObjectMapper mapper) {
-			this.mapper = mapper;
+		ForbiddenAccessDeniedHandler(final ObjectWriter writer) {
+			this.writer = writer;
 		}
 
 		@Override
@@ -176,16 +182,16 @@ public class AuthConfig {
 		}
 
 		@Override public Logger retrieveLogger() { return log; }
-		@Override public ObjectMapper retrieveObjectMapper() { return mapper; }
+		@Override public ObjectWriter retrieveWriter() { return writer; }
 	}
 
 	@Slf4j
 	static class ForbiddenAuthenticationEntryPoint implements AuthenticationEntryPoint, ForbiddenResponseSender {
 
-		private final ObjectMapper mapper;
+		private final ObjectWriter writer;
 
-		ForbiddenAuthenticationEntryPoint(final ObjectMapper mapper) {
-			this.mapper = mapper;
+		ForbiddenAuthenticationEntryPoint(final ObjectWriter writer) {
+			this.writer = writer;
 		}
 
 		@Override
@@ -195,16 +201,16 @@ public class AuthConfig {
 		}
 
 		@Override public Logger retrieveLogger() { return log; }
-		@Override public ObjectMapper retrieveObjectMapper() { return mapper; }
+		@Override public ObjectWriter retrieveWriter() { return writer; }
 	}
 
-	private Customizer<ExceptionHandlingConfigurer<HttpSecurity>> createExceptionConfigurerCustomizer(final ObjectMapper mapper) {
+	private Customizer<ExceptionHandlingConfigurer<HttpSecurity>> createExceptionConfigurerCustomizer(final ObjectWriter writer) {
 
 		return c -> {
 			final RequestMatcher rm = new MediaTypeRequestMatcher(MediaType.ALL, MediaType.APPLICATION_JSON, MediaType.TEXT_HTML);
 
-			c.defaultAccessDeniedHandlerFor(new ForbiddenAccessDeniedHandler(mapper), rm);
-			c.defaultAuthenticationEntryPointFor(new ForbiddenAuthenticationEntryPoint(mapper), rm);
+			c.defaultAccessDeniedHandlerFor(new ForbiddenAccessDeniedHandler(writer), rm);
+			c.defaultAuthenticationEntryPointFor(new ForbiddenAuthenticationEntryPoint(writer), rm);
 		};
 	}
 }
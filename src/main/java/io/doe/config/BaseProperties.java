@@ -1,13 +1,22 @@
 package io.doe.config;
 
 import io.doe.common.Constants;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.ZoneId;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
 /**
  * @author <loonabus@gmail.com>
@@ -31,6 +40,138 @@ public final class BaseProperties {
 		public Auth(final String rsaPath) { this.rsaPath = rsaPath; }
 	}
 
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.accounting")
+	public static class Accounting {
+
+		private final boolean enabled;
+		private final boolean header;
+
+		public Accounting(boolean enabled, boolean header) {
+			this.enabled = enabled;
+			this.header = header;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.async")
+	public static class Async {
+
+		@Min(1) private final int corePoolSize;
+		@Min(1) private final int maxPoolSize;
+		@Min(0) private final int queueCapacity;
+		@NotNull private final Duration keepAlive;
+		@NotBlank private final String threadNamePrefix;
+
+		public Async(int corePoolSize, int maxPoolSize, int queueCapacity, Duration keepAlive, String threadNamePrefix) {
+			this.corePoolSize = corePoolSize;
+			this.maxPoolSize = maxPoolSize;
+			this.queueCapacity = queueCapacity;
+			this.keepAlive = keepAlive;
+			this.threadNamePrefix = threadNamePrefix;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.bulk")
+	public static class Bulk {
+
+		@Min(1) private final int chunkSize;
+		@Min(1) private final int batchSize;
+		@NotNull private final DataSize uploadBufferSize;
+
+		public Bulk(int chunkSize, int batchSize, DataSize uploadBufferSize) {
+			this.chunkSize = chunkSize;
+			this.batchSize = batchSize;
+			this.uploadBufferSize = uploadBufferSize;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.catch-up")
+	public static class CatchUp {
+
+		@NotNull private final Duration gapTimeout;
+		@Min(1) private final int maxGaps;
+
+		public CatchUp(Duration gapTimeout, int maxGaps) {
+			this.gapTimeout = gapTimeout;
+			this.maxGaps = maxGaps;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.cors")
+	public static class Cors {
+
+		private final boolean preflightFastPath;
+		@NotNull private final Duration maxAge;
+		private final Map<String, Duration> pathMaxAge;
+
+		public Cors(boolean preflightFastPath, Duration maxAge, @Nullable Map<String, Duration> pathMaxAge) {
+			this.preflightFastPath = preflightFastPath;
+			this.maxAge = maxAge;
+			this.pathMaxAge = Objects.requireNonNullElse(pathMaxAge, Map.of());
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.export")
+	public static class Export {
+
+		@Min(1) private final int fetchSize;
+		@NotNull private final DataSize bufferSize;
+		@NotNull private final Path snapshotDir;
+		@NotNull private final Duration timeout;
+
+		public Export(int fetchSize, DataSize bufferSize, Path snapshotDir, Duration timeout) {
+			this.fetchSize = fetchSize;
+			this.bufferSize = bufferSize;
+			this.snapshotDir = snapshotDir;
+			this.timeout = timeout;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.feed")
+	public static class Feed {
+
+		@Min(1) private final int bufferSize;
+		@Min(1) private final int pageSize;
+		@NotNull private final Duration timeout;
+		@Min(1) private final int poolSize;
+		@Min(0) private final int queueCapacity;
+
+		public Feed(int bufferSize, int pageSize, Duration timeout, int poolSize, int queueCapacity) {
+			this.bufferSize = bufferSize;
+			this.pageSize = pageSize;
+			this.timeout = timeout;
+			this.poolSize = poolSize;
+			this.queueCapacity = queueCapacity;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.invalidation")
+	public static class Invalidation {
+
+		private final boolean enabled;
+		@NotBlank private final String nodeId;
+		@NotNull private final Duration pollInterval;
+		@Min(1) private final int batchSize;
+		@NotNull private final Duration gapTimeout;
+		@NotNull private final Duration retention;
+
+		public Invalidation(boolean enabled, @Nullable String nodeId, Duration pollInterval, int batchSize, Duration gapTimeout, Duration retention) {
+			this.enabled = enabled;
+			this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+			this.pollInterval = pollInterval;
+			this.batchSize = batchSize;
+			this.gapTimeout = gapTimeout;
+			this.retention = retention;
+		}
+	}
+
 	@Getter @Validated
 	@ConfigurationProperties(prefix="base.jackson")
 	public static class Jackson {
@@ -47,4 +188,64 @@ public final class BaseProperties {
 			this.serDateTimeFormat = serDateTimeFormat;
 		}
 	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.mget")
+	public static class Mget {
+
+		@Min(1) private final int chunkSize;
+		@Min(1) private final long cacheMaximumSize;
+		@NotNull private final Duration cacheExpireAfterWrite;
+
+		public Mget(int chunkSize, long cacheMaximumSize, Duration cacheExpireAfterWrite) {
+			this.chunkSize = chunkSize;
+			this.cacheMaximumSize = cacheMaximumSize;
+			this.cacheExpireAfterWrite = cacheExpireAfterWrite;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.request-filter")
+	public static class RequestFilter {
+
+		private final boolean fused;
+		private final boolean remoteAddress;
+		private final boolean snakeCaseParameter;
+		private final boolean requestLogging;
+
+		public RequestFilter(boolean fused, boolean remoteAddress, boolean snakeCaseParameter, boolean requestLogging) {
+			this.fused = fused;
+			this.remoteAddress = remoteAddress;
+			this.snakeCaseParameter = snakeCaseParameter;
+			this.requestLogging = requestLogging;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.snapshot")
+	public static class Snapshot {
+
+		private final boolean enabled;
+
+		public Snapshot(boolean enabled) {
+			this.enabled = enabled;
+		}
+	}
+
+	@Getter @Validated
+	@ConfigurationProperties(prefix="base.warmup")
+	public static class Warmup {
+
+		private final boolean enabled;
+		@Min(0) private final int iterations;
+		@NotNull private final Duration maxDuration;
+		@Nullable private final String signingKeyPath;
+
+		public Warmup(boolean enabled, int iterations, Duration maxDuration, @Nullable String signingKeyPath) {
+			this.enabled = enabled;
+			this.iterations = iterations;
+			this.maxDuration = maxDuration;
+			this.signingKeyPath = signingKeyPath;
+		}
+	}
 }
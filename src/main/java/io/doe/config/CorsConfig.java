@@ -0,0 +1,133 @@
+package io.doe.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see CorsConfig
+ * @since 2026-10-18
+ */
+
+@Configuration
+@EnableConfigurationProperties(BaseProperties.Cors.class)
+public class CorsConfig {
+
+	public static final String DEFAULT_PATTERN = "/**";
+
+	private final BaseProperties.Cors props;
+
+	public CorsConfig(final BaseProperties.Cors props) {
+		this.props = props;
+	}
+
+	/* shared by spring mvc mappings and http.cors() so that both answer with the same policy, most specific pattern first */
+	@Bean
+	public UrlBasedCorsConfigurationSource corsConfigurationSource() {
+
+		final UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+
+		props.getPathMaxAge().keySet().stream().sorted(Comparator.comparing(PathPatternParser.defaultInstance::parse, PathPattern.SPECIFICITY_COMPARATOR))
+				.forEach(p -> source.registerCorsConfiguration(p, configure(props.getPathMaxAge().get(p))));
+		source.registerCorsConfiguration(DEFAULT_PATTERN, configure(props.getMaxAge()));
+
+		return source;
+	}
+
+	private static CorsConfiguration configure(final Duration maxAge) {
+
+		final CorsConfiguration config = new CorsConfiguration();
+		config.addAllowedOrigin(CorsConfiguration.ALL); config.addAllowedHeader(CorsConfiguration.ALL);
+		config.setAllowedMethods(Arrays.stream(HttpMethod.values()).map(HttpMethod::name).toList());
+		config.setMaxAge(maxAge);
+
+		return config;
+	}
+
+	/* answers preflight requests ahead of logging and security with headers computed once per configuration */
+	public static class PreflightFilter implements Filter {
+
+		private static final String VARY = String.join(", ", HttpHeaders.ORIGIN, HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+		private static final byte[] REJECTED = "Invalid CORS request".getBytes(StandardCharsets.UTF_8);
+
+		private final UrlBasedCorsConfigurationSource source;
+		private final Map<CorsConfiguration, Preflight> preflights = new IdentityHashMap<>();
+
+		record Preflight(String methods, String maxAge) { /* precomputed response headers */ }
+
+		PreflightFilter(final UrlBasedCorsConfigurationSource source) {
+			this.source = source;
+			source.getCorsConfigurations().values().forEach(c -> preflights.put(c, new Preflight(String.join(",", Objects.requireNonNull(c.getAllowedMethods())), String.valueOf(c.getMaxAge()))));
+		}
+
+		@Override
+		public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+
+			if (!(request instanceof HttpServletRequest hr) || !(response instanceof HttpServletResponse hs) || !CorsUtils.isPreFlightRequest(hr)) {
+				chain.doFilter(request, response); return;
+			}
+
+			final CorsConfiguration config = source.getCorsConfiguration(hr);
+			final Preflight preflight = Objects.isNull(config) ? null : preflights.get(config);
+
+			if (Objects.isNull(preflight)) { chain.doFilter(request, response); return; }
+
+			final String origin = config.checkOrigin(hr.getHeader(HttpHeaders.ORIGIN));
+			final List<String> requested = requestedHeaders(hr);
+			final List<String> allowed = config.checkHeaders(requested);
+
+			hs.addHeader(HttpHeaders.VARY, VARY);
+
+			if (Objects.isNull(origin) || Objects.isNull(config.checkHttpMethod(HttpMethod.valueOf(hr.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD))))
+					|| (!requested.isEmpty() && Objects.isNull(allowed))) {
+				hs.setStatus(HttpServletResponse.SC_FORBIDDEN); hs.getOutputStream().write(REJECTED); return;
+			}
+
+			hs.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+			hs.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, preflight.methods());
+			if (Objects.nonNull(allowed) && !allowed.isEmpty()) { hs.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, String.join(", ", allowed)); }
+			hs.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, preflight.maxAge());
+			hs.setStatus(HttpServletResponse.SC_OK);
+		}
+
+		private static List<String> requestedHeaders(final HttpServletRequest request) {
+
+			final List<String> headers = new ArrayList<>(4);
+			request.getHeaders(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS).asIterator()
+					.forEachRemaining(v -> Arrays.stream(StringUtils.tokenizeToStringArray(v, ",")).forEach(headers::add));
+
+			return headers;
+		}
+	}
+
+	@Bean
+	public FilterRegistrationBean<PreflightFilter> preflightFilterRegisterer(final UrlBasedCorsConfigurationSource source) {
+
+		final FilterRegistrationBean<PreflightFilter> bean = new FilterRegistrationBean<>();
+		bean.setFilter(new PreflightFilter(source));
+		bean.setEnabled(props.isPreflightFastPath());
+		bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+
+		return bean;
+	}
+}
@@ -0,0 +1,262 @@
+package io.doe.config;
+
+import com.p6spy.engine.common.ConnectionInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.doe.common.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.lang.Nullable;
+
+import javax.sql.CommonDataSource;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see DataSourceConfig
+ * @since 2026-10-18
+ */
+
+@Configuration
+public class DataSourceConfig {
+
+	public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+	public static final String READ_DATA_SOURCE = "readDataSource";
+
+	@Bean(PRIMARY_DATA_SOURCE)
+	@ConfigurationProperties(prefix="spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(final DataSourceProperties props) {
+		return props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean(READ_DATA_SOURCE)
+	@ConfigurationProperties(prefix="base.datasource.read")
+	public HikariDataSource readDataSource() {
+		return DataSourceBuilder.create().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier(PRIMARY_DATA_SOURCE) final DataSource primary, @Qualifier(READ_DATA_SOURCE) final DataSource read,
+			@Value("${spring.datasource.hikari.auto-commit:true}") final boolean autoCommit) {
+
+		final LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+		proxy.setReadOnlyDataSource(read); proxy.setDefaultAutoCommit(autoCommit);
+
+		return proxy;
+	}
+
+	public static final class CallSite {
+
+		private static final String NONE = "none";
+		private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+		private CallSite() {
+			throw new UnsupportedOperationException(Constants.UNSUPPORTED_OPERATION_MESSAGE);
+		}
+
+		public static String current() {
+			return Optional.ofNullable(CURRENT.get()).orElse(NONE);
+		}
+	}
+
+	protected static class CallSitePointcut {
+
+		@Pointcut("execution(public * io.doe.service..*Impl.*(..))")
+		void s() { /* Pointcut Designator Method */ }
+	}
+
+	@Aspect
+	@Order(100)
+	public static class CallSiteAspect {
+
+		@Around("io.doe.config.DataSourceConfig.CallSitePointcut.s()")
+		public Object markCallSite(final ProceedingJoinPoint point) throws Throwable {
+
+			if (Objects.nonNull(CallSite.CURRENT.get())) { return point.proceed(); }
+
+			CallSite.CURRENT.set(point.getSignature().getDeclaringType().getSimpleName() + "." + point.getSignature().getName());
+
+			try {
+				return point.proceed();
+			} finally {
+				CallSite.CURRENT.remove();
+			}
+		}
+	}
+
+	@Bean
+	public CallSiteAspect callSiteAspect() {
+		return new CallSiteAspect();
+	}
+
+	static class PoolUsage {
+
+		private final AtomicInteger inUse = new AtomicInteger();
+		private final AtomicInteger peakInUse = new AtomicInteger();
+		private final AtomicInteger peakDemand = new AtomicInteger();
+		private final LongAdder acquisitions = new LongAdder();
+		private final LongAdder heldNanos = new LongAdder();
+		private volatile long since = System.nanoTime();
+
+		void acquired(final int pending) {
+			final int current = inUse.incrementAndGet();
+			acquisitions.increment();
+			peakInUse.accumulateAndGet(current, Math::max);
+			peakDemand.accumulateAndGet(current + pending, Math::max);
+		}
+
+		void released(final long held) {
+			inUse.decrementAndGet(); heldNanos.add(held);
+		}
+
+		void reset() {
+			peakInUse.set(inUse.get()); peakDemand.set(inUse.get());
+			acquisitions.reset(); heldNanos.reset(); since = System.nanoTime();
+		}
+	}
+
+	record Lease(String site, String pool, PoolUsage usage, long start) { /* connection checked out of a pool */ }
+
+	public static class ConnectionHoldListener extends JdbcEventListener {
+
+		private final MeterRegistry registry;
+		private final Map<Integer, Lease> leases = new ConcurrentHashMap<>();
+		private final Map<CommonDataSource, PoolUsage> usages = new ConcurrentHashMap<>();
+
+		ConnectionHoldListener(final MeterRegistry registry) {
+			this.registry = registry;
+		}
+
+		@Override
+		public void onAfterGetConnection(final ConnectionInformation info, @Nullable final SQLException e) {
+
+			if (Objects.nonNull(e) || Objects.isNull(info.getDataSource())) { return; }
+
+			final PoolUsage usage = usageOf(info.getDataSource());
+			final HikariDataSource hds = info.getDataSource() instanceof HikariDataSource h ? h : null;
+			final HikariPoolMXBean pool = Objects.nonNull(hds) ? hds.getHikariPoolMXBean() : null;
+
+			usage.acquired(Objects.nonNull(pool) ? pool.getThreadsAwaitingConnection() : 0);
+			leases.put(info.getConnectionId(), new Lease(CallSite.current(), Objects.nonNull(hds) ? String.valueOf(hds.getPoolName()) : "unknown", usage, System.nanoTime()));
+		}
+
+		@Override
+		public void onAfterConnectionClose(final ConnectionInformation info, @Nullable final SQLException e) {
+
+			final Lease lease = leases.remove(info.getConnectionId());
+			if (Objects.isNull(lease)) { return; }
+
+			final long held = System.nanoTime() - lease.start();
+			lease.usage().released(held);
+
+			Timer.builder("db.connection.hold").description("Time a connection is held, by service call site")
+					.tags("pool", lease.pool(), "call.site", lease.site()).register(registry).record(Duration.ofNanos(held));
+		}
+
+		PoolUsage usageOf(final CommonDataSource ds) {
+			return usages.computeIfAbsent(ds, k -> new PoolUsage());
+		}
+	}
+
+	@Bean
+	public ConnectionHoldListener connectionHoldListener(final MeterRegistry registry) {
+		return new ConnectionHoldListener(registry);
+	}
+
+	@Endpoint(id="pool")
+	public static class PoolSizingEndpoint {
+
+		private static final double HEADROOM = 1.2;
+
+		private final int threads;
+		private final Map<String, DataSource> sources;
+		private final ConnectionHoldListener listener;
+
+		PoolSizingEndpoint(final int threads, final Map<String, DataSource> sources, final ConnectionHoldListener listener) {
+			this.threads = threads; this.sources = sources; this.listener = listener;
+		}
+
+		@ReadOperation
+		public Map<String, Object> pools() {
+
+			final Map<String, Object> result = new LinkedHashMap<>();
+
+			sources.forEach((name, ds) -> Optional.ofNullable(DataSourceUnwrapper.unwrap(ds, HikariConfigMXBean.class, HikariDataSource.class))
+					.filter(h -> !result.containsKey(h.getPoolName())).ifPresent(h -> result.put(h.getPoolName(), describe(name, h))));
+
+			return result;
+		}
+
+		@DeleteOperation
+		public void reset() {
+			sources.values().forEach(ds -> Optional.ofNullable(DataSourceUnwrapper.unwrap(ds, HikariConfigMXBean.class, HikariDataSource.class)).ifPresent(h -> listener.usageOf(h).reset()));
+		}
+
+		private Map<String, Object> describe(final String bean, final HikariDataSource hds) {
+
+			final PoolUsage usage = listener.usageOf(hds);
+			final Optional<HikariPoolMXBean> pool = Optional.ofNullable(hds.getHikariPoolMXBean());
+
+			final long acquisitions = usage.acquisitions.sum();
+			final double seconds = Math.max((System.nanoTime() - usage.since) / 1e9, 1e-3);
+			final double meanHoldSeconds = acquisitions == 0 ? 0 : usage.heldNanos.sum() / 1e9 / acquisitions;
+			final double littleConcurrency = acquisitions / seconds * meanHoldSeconds;
+			final int recommended = Math.clamp((long)Math.ceil(Math.max(usage.peakDemand.get(), littleConcurrency) * HEADROOM), 1, Math.max(threads, 1));
+
+			final Map<String, Object> result = new LinkedHashMap<>();
+			result.put("bean", bean);
+			result.put("maximumPoolSize", hds.getMaximumPoolSize());
+			result.put("minimumIdle", hds.getMinimumIdle());
+			result.put("active", pool.map(HikariPoolMXBean::getActiveConnections).orElse(0));
+			result.put("idle", pool.map(HikariPoolMXBean::getIdleConnections).orElse(0));
+			result.put("pending", pool.map(HikariPoolMXBean::getThreadsAwaitingConnection).orElse(0));
+			result.put("observedSeconds", Math.round(seconds));
+			result.put("acquisitions", acquisitions);
+			result.put("meanHoldMillis", meanHoldSeconds * 1000);
+			result.put("meanConcurrency", littleConcurrency);
+			result.put("peakInUse", usage.peakInUse.get());
+			result.put("peakDemand", usage.peakDemand.get());
+			result.put("requestThreads", threads);
+			result.put("recommendedPoolSize", recommended);
+
+			return result;
+		}
+	}
+
+	@Bean
+	public PoolSizingEndpoint poolSizingEndpoint(final ServerProperties server, final Map<String, DataSource> sources, final ConnectionHoldListener listener) {
+		return new PoolSizingEndpoint(server.getTomcat().getThreads().getMax(), sources, listener);
+	}
+}
@@ -5,14 +5,23 @@ import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.doe.common.JsonCodecs;
+import io.doe.domain.BaseRes;
+import io.doe.domain.BulkIngestRes;
+import io.doe.domain.ChangeFeedEntry;
+import io.doe.domain.SearchHit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +45,7 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Objects;
 
 import static java.lang.annotation.ElementType.FIELD;
@@ -62,6 +72,24 @@ public class JacksonConfig {
 
 	@Bean
 	public Jackson2ObjectMapperBuilderCustomizer objectMapperBuilderCustomizer() {
+		return c -> c.findModulesViaServiceLoader(true).modulesToInstall(customModule(), new BlackbirdModule());
+	}
+
+	/* every json writer in the application goes through the one auto-configured mapper, response types resolved at startup,
+	   csv goes through its own mapper with the same custom module so strings are stripped and sanitized exactly like json */
+	@Bean
+	public JsonCodecs jsonCodecs(final ObjectMapper mapper) {
+
+		final CsvMapper csv = CsvMapper.builder().addModule(customModule()).enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES).build();
+		final JsonCodecs codecs = new JsonCodecs(mapper, csv);
+
+		codecs.warm(List.of(codecs.type(BaseRes.class), codecs.type(BaseRes.class, List.class), codecs.type(List.class, String.class), codecs.type(List.class, SearchHit.class),
+				codecs.type(SearchHit.class), codecs.type(BulkIngestRes.class), codecs.type(ChangeFeedEntry.class)));
+
+		return codecs;
+	}
+
+	private SimpleModule customModule() {
 
 		final DateTimeFormatter dFormatter = DateTimeFormatter.ofPattern(props.getDesFormat());
 		final DateTimeFormatter sFormatter = DateTimeFormatter.ofPattern(props.getSerDateTimeFormat());
@@ -77,7 +105,7 @@ public class JacksonConfig {
 
 		module.addDeserializer(String.class, new StringSanitizingDeserializer());
 
-		return c -> c.findModulesViaServiceLoader(true).modulesToInstall(module);
+		return module;
 	}
 
 	@Slf4j
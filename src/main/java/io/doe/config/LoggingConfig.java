@@ -130,7 +130,9 @@ public class LoggingConfig {
 				"io.doe.config.LoggingConfig.LoggingPointcut.e() && " +
 				"io.doe.config.LoggingConfig.LoggingPointcut.m() && " + "args(..)")
 		public void printHandlerArguments(final JoinPoint point) {
-			log.debug("@@@ {}.{} @@@ -> {}", point.getTarget().getClass().getSimpleName(), point.getSignature().getName(), extractor.extract(point));
+			MetricsConfig.RequestStages.measure(MetricsConfig.ARGUMENT_LOGGING_STAGE, () -> {
+				log.debug("@@@ {}.{} @@@ -> {}", point.getTarget().getClass().getSimpleName(), point.getSignature().getName(), extractor.extract(point)); return null;
+			});
 		}
 	}
 
@@ -143,7 +145,7 @@ public class LoggingConfig {
 	public static class RequestLoggingFilterConfig {
 
 		@Bean
-		public FilterRegistrationBean<AbstractRequestLoggingFilter> requestLoggingFilterRegisterer() {
+		public FilterRegistrationBean<AbstractRequestLoggingFilter> requestLoggingFilterRegisterer(final BaseProperties.RequestFilter props) {
 
 			final FilterRegistrationBean<AbstractRequestLoggingFilter> bean = new FilterRegistrationBean<>();
 
@@ -152,6 +154,7 @@ public class LoggingConfig {
 			filter.setMaxPayloadLength(10000);  filter.setIncludeHeaders(true);
 
 			bean.setFilter(filter);
+			bean.setEnabled(!props.isFused() && props.isRequestLogging());
 			bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
 
 			return bean;
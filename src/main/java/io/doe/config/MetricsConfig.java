@@ -0,0 +1,430 @@
+package io.doe.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Conventions;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.Nullable;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.AbstractRequestLoggingFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MetricsConfig
+ * @since 2026-10-18
+ */
+
+@Configuration
+@EnableConfigurationProperties(BaseProperties.Accounting.class)
+public class MetricsConfig {
+
+	public static final String STAGE_METRIC = "http.server.stages";
+	public static final String STAGE_CPU_METRIC = "http.server.stages.cpu";
+	public static final String STAGE_ALLOCATION_METRIC = "http.server.stages.allocation";
+	public static final String COST_HEADER = "X-Request-Cost";
+
+	public static final String SECURITY_STAGE = "security";
+	public static final String JWT_DECODE_STAGE = "jwt-decode";
+	public static final String DB_STAGE = "db";
+	public static final String SERIALIZATION_STAGE = "serialization";
+	public static final String ARGUMENT_LOGGING_STAGE = "argument-logging";
+	public static final String REQUEST_STAGE = "request";
+
+	/* cpu time and allocated bytes of the current thread, read from the hotspot thread counters */
+	public record Usage(long cpuNanos, long allocatedBytes) {
+
+		private static final com.sun.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t ? t : null;
+
+		static boolean supported() {
+			return Objects.nonNull(THREADS) && THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled()
+					&& THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+		}
+
+		static Usage now() {
+			return new Usage(THREADS.getCurrentThreadCpuTime(), THREADS.getCurrentThreadAllocatedBytes());
+		}
+
+		Usage since(final Usage start) {
+			return new Usage(cpuNanos - start.cpuNanos, allocatedBytes - start.allocatedBytes);
+		}
+	}
+
+	@FunctionalInterface
+	public interface StageWork<T, E extends Exception> {
+		T run() throws E;
+	}
+
+	static final class Stage {
+
+		private final LongAdder nanos = new LongAdder();
+		private final LongAdder cpuNanos = new LongAdder();
+		private final LongAdder allocatedBytes = new LongAdder();
+
+		private void add(@Nullable final Usage usage) {
+			if (Objects.nonNull(usage)) { cpuNanos.add(usage.cpuNanos); allocatedBytes.add(usage.allocatedBytes); }
+		}
+	}
+
+	public static final class RequestStages {
+
+		private static final String ATTRIBUTE = RequestStages.class.getName();
+		private static final ThreadLocal<RequestStages> CURRENT = new ThreadLocal<>();
+
+		private final Map<String, Stage> stages = new ConcurrentHashMap<>(8);
+		private final Stage total = new Stage();
+		private final boolean accounting;
+		private volatile long securityEntered;
+		@Nullable private volatile Usage securityUsage;
+		@Nullable private volatile Thread origin;
+		@Nullable private volatile Usage originStart;
+
+		RequestStages(final boolean accounting) {
+			this.accounting = accounting;
+		}
+
+		public void add(final String stage, final long nanos) {
+			add(stage, nanos, null);
+		}
+
+		void add(final String stage, final long nanos, @Nullable final Usage usage) {
+
+			final Stage s = stages.computeIfAbsent(stage, k -> new Stage());
+			s.nanos.add(nanos); s.add(usage);
+		}
+
+		@Nullable
+		Usage start() {
+			return accounting ? Usage.now() : null;
+		}
+
+		@Nullable
+		Usage since(@Nullable final Usage start) {
+			return Objects.isNull(start) ? null : Usage.now().since(start);
+		}
+
+		void charge(@Nullable final Usage usage) {
+			total.add(usage);
+		}
+
+		/* usage charged so far, plus what the request thread has used up to now when it is still inside the chain */
+		Usage sofar() {
+
+			final Usage opened = originStart;
+			final Usage live = Objects.nonNull(opened) && Thread.currentThread() == origin ? Usage.now().since(opened) : new Usage(0, 0);
+
+			return new Usage(total.cpuNanos.sum() + live.cpuNanos, total.allocatedBytes.sum() + live.allocatedBytes);
+		}
+
+		public static Optional<RequestStages> current() {
+			return Optional.ofNullable(CURRENT.get());
+		}
+
+		/* times a piece of work on the request thread as a stage of its own, a plain call outside of a request */
+		public static <T, E extends Exception> T measure(final String stage, final StageWork<T, E> work) throws E {
+
+			final RequestStages stages = CURRENT.get();
+			if (Objects.isNull(stages)) { return work.run(); }
+
+			final Usage usage = stages.start();
+			final long start = System.nanoTime();
+
+			try {
+				return work.run();
+			} finally {
+				stages.add(stage, System.nanoTime() - start, stages.since(usage));
+			}
+		}
+
+		@Nullable
+		static RequestStages of(final ServletRequest request) {
+			return request.getAttribute(ATTRIBUTE) instanceof RequestStages rs ? rs : null;
+		}
+	}
+
+	public static class RouteStageMetricsFilter implements Filter {
+
+		private final MeterRegistry registry;
+		private final boolean accounting;
+		private final boolean header;
+
+		RouteStageMetricsFilter(final MeterRegistry registry, final BaseProperties.Accounting props) {
+			this.registry = registry; this.accounting = props.isEnabled() && Usage.supported(); this.header = accounting && props.isHeader();
+		}
+
+		@Override
+		public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+
+			final RequestStages stages = new RequestStages(accounting);
+			request.setAttribute(RequestStages.ATTRIBUTE, stages);
+			RequestStages.CURRENT.set(stages);
+
+			final Usage usage = stages.start();
+			stages.origin = Thread.currentThread(); stages.originStart = usage;
+
+			try {
+				chain.doFilter(request, header && response instanceof HttpServletResponse hr ? new CostHeaderResponse(hr, stages) : response);
+			} finally {
+				RequestStages.CURRENT.remove();
+				stages.originStart = null; stages.charge(stages.since(usage));
+				if (request.isAsyncStarted()) {
+					request.getAsyncContext().addListener(new AsyncListener() {
+						@Override public void onComplete(final AsyncEvent e) { record(request, stages); }
+						@Override public void onTimeout(final AsyncEvent e) { /* recorded on completion */ }
+						@Override public void onError(final AsyncEvent e) { /* recorded on completion */ }
+						@Override public void onStartAsync(final AsyncEvent e) { /* no operation here */ }
+					});
+				} else { record(request, stages); }
+			}
+		}
+
+		private void record(final ServletRequest request, final RequestStages stages) {
+
+			final String uri = Optional.ofNullable(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)).map(String::valueOf).orElse("UNKNOWN");
+			final String method = request instanceof HttpServletRequest hr ? hr.getMethod() : "UNKNOWN";
+
+			stages.stages.forEach((stage, s) -> {
+				Timer.builder(STAGE_METRIC).description("Time spent in each request processing stage")
+						.tags("uri", uri, "method", method, "stage", stage).register(registry).record(Duration.ofNanos(s.nanos.sum()));
+				if (stages.accounting && s.allocatedBytes.sum() + s.cpuNanos.sum() > 0) { recordUsage(uri, method, stage, s); }
+			});
+
+			if (stages.accounting) { recordUsage(uri, method, REQUEST_STAGE, stages.total); }
+		}
+
+		private void recordUsage(final String uri, final String method, final String stage, final Stage s) {
+
+			Timer.builder(STAGE_CPU_METRIC).description("Cpu time spent in each request processing stage")
+					.tags("uri", uri, "method", method, "stage", stage).register(registry).record(Duration.ofNanos(s.cpuNanos.sum()));
+			DistributionSummary.builder(STAGE_ALLOCATION_METRIC).description("Bytes allocated in each request processing stage").baseUnit("bytes")
+					.tags("uri", uri, "method", method, "stage", stage).register(registry).record(s.allocatedBytes.sum());
+		}
+	}
+
+	/* writes the usage charged up to the moment the response is committed, so it misses whatever runs after the first flush */
+	static class CostHeaderResponse extends OnCommittedResponseWrapper {
+
+		private final RequestStages stages;
+
+		CostHeaderResponse(final HttpServletResponse response, final RequestStages stages) {
+			super(response); this.stages = stages;
+		}
+
+		@Override
+		protected void onResponseCommitted() {
+
+			final Usage usage = stages.sofar();
+			setHeader(COST_HEADER, String.format("cpu=%.3fms, alloc=%dB", usage.cpuNanos / 1_000_000d, usage.allocatedBytes));
+		}
+	}
+
+	public static class StageTimingFilter implements Filter {
+
+		private final String stage;
+		private final Filter delegate;
+
+		StageTimingFilter(final String stage, final Filter delegate) {
+			this.stage = stage; this.delegate = delegate;
+		}
+
+		@Override
+		public void init(final FilterConfig filterConfig) throws ServletException { delegate.init(filterConfig); }
+
+		@Override
+		public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+
+			final RequestStages stages = RequestStages.of(request);
+			if (Objects.isNull(stages)) { delegate.doFilter(request, response, chain); return; }
+
+			final long[] inner = new long[3];
+			final Usage usage = stages.start();
+			final long start = System.nanoTime();
+
+			try {
+				delegate.doFilter(request, response, (rq, rs) -> {
+					final Usage entered = stages.start();
+					final long enteredAt = System.nanoTime();
+					try { chain.doFilter(rq, rs); } finally { inner[0] += System.nanoTime() - enteredAt; exclude(inner, stages.since(entered)); }
+				});
+			} finally {
+				final Usage own = stages.since(usage);
+				stages.add(stage, System.nanoTime() - start - inner[0], Objects.isNull(own) ? null : new Usage(own.cpuNanos - inner[1], own.allocatedBytes - inner[2]));
+			}
+		}
+
+		private static void exclude(final long[] inner, @Nullable final Usage usage) {
+			if (Objects.nonNull(usage)) { inner[1] += usage.cpuNanos; inner[2] += usage.allocatedBytes; }
+		}
+
+		@Override public void destroy() { delegate.destroy(); }
+	}
+
+	public static class SecurityStageFilter implements Filter {
+
+		private final boolean entering;
+
+		SecurityStageFilter(final boolean entering) {
+			this.entering = entering;
+		}
+
+		@Override
+		public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+
+			final RequestStages stages = RequestStages.of(request);
+			if (Objects.isNull(stages)) { chain.doFilter(request, response); return; }
+
+			if (!entering) {
+				closeSecurityStage(stages); chain.doFilter(request, response); return;
+			}
+
+			stages.securityUsage = stages.start();
+			stages.securityEntered = System.nanoTime();
+
+			try {
+				chain.doFilter(request, response);
+			} finally {
+				closeSecurityStage(stages);
+			}
+		}
+
+		private void closeSecurityStage(final RequestStages stages) {
+
+			final long entered = stages.securityEntered;
+			if (entered == 0) { return; }
+
+			stages.securityEntered = 0;
+			stages.add(SECURITY_STAGE, System.nanoTime() - entered, stages.since(stages.securityUsage));
+		}
+	}
+
+	/* turns the jwt decode and jdbc statement observations into stages of the request they run in, so each of them is wrapped only once */
+	public static class StageObservationHandler implements ObservationHandler<Observation.Context> {
+
+		private static final Map<String, String> STAGES = Map.of(TracingConfig.JWT_DECODE_OBSERVATION, JWT_DECODE_STAGE, TracingConfig.JDBC_OBSERVATION, DB_STAGE);
+
+		@Override
+		public void onStart(final Observation.Context context) {
+			if (RequestStages.current().isPresent()) { context.put(StageObservationHandler.class, System.nanoTime()); }
+		}
+
+		@Override
+		public void onStop(final Observation.Context context) {
+
+			final Long start = context.get(StageObservationHandler.class);
+			if (Objects.isNull(start)) { return; }
+
+			final long elapsed = System.nanoTime() - start;
+			RequestStages.current().ifPresent(s -> s.add(STAGES.get(context.getName()), elapsed));
+		}
+
+		@Override
+		public boolean supportsContext(final Observation.Context context) {
+			return Objects.nonNull(context.getName()) && STAGES.containsKey(context.getName());
+		}
+	}
+
+	@Bean
+	public TaskDecorator requestStagesTaskDecorator() {
+
+		return runnable -> {
+			final RequestStages stages = RequestStages.CURRENT.get();
+			if (Objects.isNull(stages)) { return runnable; }
+
+			return () -> {
+				RequestStages.CURRENT.set(stages);
+				final Usage usage = stages.start();
+				try { runnable.run(); } finally { RequestStages.CURRENT.remove(); stages.charge(stages.since(usage)); }
+			};
+		};
+	}
+
+	@Bean
+	public StageObservationHandler stageObservationHandler() {
+		return new StageObservationHandler();
+	}
+
+	@Bean
+	public static BeanPostProcessor stageTimingPostProcessor() {
+
+		return new BeanPostProcessor() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object postProcessBeforeInitialization(final Object bean, final String name) {
+
+				if (bean instanceof FilterRegistrationBean<?> frb && Objects.nonNull(frb.getFilter())) {
+					final Filter filter = frb.getFilter();
+					stageOf(filter).ifPresent(s -> { frb.setName(Conventions.getVariableName(filter)); ((FilterRegistrationBean<Filter>)frb).setFilter(new StageTimingFilter(s, filter)); });
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	static Optional<String> stageOf(final Filter filter) {
+
+		return switch (filter) {
+			case WebMvcConfig.RemoteAddressFilter ignored -> Optional.of("remote-address");
+			case WebMvcConfig.SnakeCaseParameterNameFilter ignored -> Optional.of("snake-case-parameter");
+			case WebMvcConfig.FusedRequestFilter ignored -> Optional.of("fused-request");
+			case AbstractRequestLoggingFilter ignored -> Optional.of("request-logging");
+			default -> Optional.empty();
+		};
+	}
+
+	@Bean
+	public FilterRegistrationBean<RouteStageMetricsFilter> routeStageMetricsFilterRegisterer(final ObjectProvider<MeterRegistry> registry, final BaseProperties.Accounting props) {
+
+		final FilterRegistrationBean<RouteStageMetricsFilter> bean = new FilterRegistrationBean<>();
+		bean.setFilter(new RouteStageMetricsFilter(registry.getObject(), props));
+		bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+
+		return bean;
+	}
+
+	@Bean
+	public FilterRegistrationBean<SecurityStageFilter> securityStageEnteringFilterRegisterer() {
+
+		final FilterRegistrationBean<SecurityStageFilter> bean = new FilterRegistrationBean<>();
+		bean.setFilter(new SecurityStageFilter(true));
+		bean.setName("securityStageEnteringFilter");
+		bean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+
+		return bean;
+	}
+
+	@Bean
+	public FilterRegistrationBean<SecurityStageFilter> securityStageLeavingFilterRegisterer() {
+
+		final FilterRegistrationBean<SecurityStageFilter> bean = new FilterRegistrationBean<>();
+		bean.setFilter(new SecurityStageFilter(false));
+		bean.setName("securityStageLeavingFilter");
+		bean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+
+		return bean;
+	}
+}
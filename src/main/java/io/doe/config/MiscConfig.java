@@ -1,11 +1,25 @@
 package io.doe.config;
 
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.doe.common.MessageResolver;
+import io.doe.domain.PublicInfo;
+import io.doe.domain.SecretInfo;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.MessageSourceAccessor;
 
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Properties;
+
 /**
  * @author <jongsung.choi@kubeworks.net>
  * @version 1.0.0
@@ -15,10 +29,35 @@ import org.springframework.context.support.MessageSourceAccessor;
 
 @Configuration
 @EnableCaching(proxyTargetClass=true)
+@EnableConfigurationProperties({BaseProperties.Bulk.class, BaseProperties.CatchUp.class, BaseProperties.Export.class, BaseProperties.Feed.class, BaseProperties.Invalidation.class, BaseProperties.Mget.class, BaseProperties.Snapshot.class})
 public class MiscConfig {
 
 	@Bean
 	public MessageSourceAccessor messageSourceAccessor(final MessageSource source) {
 		return new MessageSourceAccessor(source);
 	}
+
+	@Bean
+	public MessageResolver messageResolver(final MessageSource source) {
+		return new MessageResolver(source);
+	}
+
+	/* built per context rather than through the provider registry, so contexts sharing a class loader never close each other's regions */
+	@Bean(destroyMethod="close")
+	public CacheManager entityCacheManager(final BaseProperties.Mget props) {
+
+		final CaffeineCachingProvider provider = new CaffeineCachingProvider();
+		final CacheManager manager = new CacheManagerImpl(provider, false, provider.getDefaultURI(), provider.getDefaultClassLoader(), new Properties());
+
+		final CaffeineConfiguration<Object, Object> region = new CaffeineConfiguration<>()
+				.setMaximumSize(OptionalLong.of(props.getCacheMaximumSize())).setExpireAfterWrite(OptionalLong.of(props.getCacheExpireAfterWrite().toNanos()));
+		List.of(PublicInfo.CACHE_REGION, SecretInfo.CACHE_REGION).forEach(r -> manager.createCache(r, region));
+
+		return manager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer entityCacheCustomizer(final CacheManager entityCacheManager) {
+		return hp -> hp.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+	}
 }
@@ -0,0 +1,149 @@
+package io.doe.config;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.lang.Nullable;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.util.StringUtils;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see TracingConfig
+ * @since 2026-10-18
+ */
+
+@Configuration
+public class TracingConfig {
+
+	public static final String JWT_DECODE_OBSERVATION = "jwt.decode";
+	public static final String SERVICE_OBSERVATION = "resource.service";
+	public static final String JDBC_OBSERVATION = "jdbc.statement";
+
+	static class ObservedJwtDecoder implements JwtDecoder {
+
+		private final JwtDecoder delegate;
+		private final ObjectProvider<ObservationRegistry> registry;
+
+		ObservedJwtDecoder(final JwtDecoder delegate, final ObjectProvider<ObservationRegistry> registry) {
+			this.delegate = delegate; this.registry = registry;
+		}
+
+		@Override
+		public Jwt decode(final String token) {
+			return Observation.createNotStarted(JWT_DECODE_OBSERVATION, registry.getIfAvailable(() -> ObservationRegistry.NOOP)).contextualName("jwt decode").observe(() -> delegate.decode(token));
+		}
+	}
+
+	@Bean
+	public static BeanPostProcessor jwtDecoderObservationPostProcessor(final ObjectProvider<ObservationRegistry> registry) {
+
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(final Object bean, final String name) {
+				return bean instanceof JwtDecoder jd && !(bean instanceof ObservedJwtDecoder) ? new ObservedJwtDecoder(jd, registry) : bean;
+			}
+		};
+	}
+
+	protected static class TracingPointcut {
+
+		@Pointcut("execution(public * io.doe.service.ResourceService+.*(..))")
+		void s() { /* Pointcut Designator Method */ }
+	}
+
+	@Aspect
+	@Order(99)
+	public static class ServiceObservationAspect {
+
+		private final ObservationRegistry registry;
+
+		protected ServiceObservationAspect(final ObservationRegistry registry) {
+			this.registry = registry;
+		}
+
+		@Around("io.doe.config.TracingConfig.TracingPointcut.s()")
+		public Object observe(final ProceedingJoinPoint point) throws Throwable {
+
+			final String method = point.getSignature().getDeclaringType().getSimpleName() + "." + point.getSignature().getName();
+			final Observation observation = Observation.createNotStarted(SERVICE_OBSERVATION, registry).contextualName(method).lowCardinalityKeyValue("method", method).start();
+
+			try (final Observation.Scope ignored = observation.openScope()) {
+				return point.proceed();
+			} catch (final Throwable t) {
+				observation.error(t); throw t;
+			} finally {
+				observation.stop();
+			}
+		}
+	}
+
+	@Bean
+	public ServiceObservationAspect serviceObservationAspect(final ObservationRegistry registry) {
+		return new ServiceObservationAspect(registry);
+	}
+
+	public static class StatementObservationListener extends SimpleJdbcEventListener {
+
+		private final ObservationRegistry registry;
+		private final Map<StatementInformation, Observation.Scope> scopes = new ConcurrentHashMap<>();
+
+		StatementObservationListener(final ObservationRegistry registry) {
+			this.registry = registry;
+		}
+
+		@Override
+		public void onBeforeAnyExecute(final StatementInformation info) {
+
+			if (Objects.isNull(registry.getCurrentObservation()) && MetricsConfig.RequestStages.current().isEmpty()) { return; }
+
+			final String sql = Objects.toString(info.getSql(), "").strip();
+			final String operation = StringUtils.hasText(sql) ? sql.split("\\s+", 2)[0].toLowerCase(Locale.ROOT) : "statement";
+
+			scopes.put(info, Observation.createNotStarted(JDBC_OBSERVATION, registry).contextualName("jdbc " + operation)
+					.lowCardinalityKeyValue("db.operation", operation).highCardinalityKeyValue("db.statement", sql).start().openScope());
+		}
+
+		@Override
+		public void onAfterAnyExecute(final StatementInformation info, final long elapsed, @Nullable final SQLException e) {
+
+			final Observation.Scope scope = scopes.remove(info);
+			if (Objects.isNull(scope)) { return; }
+
+			final Observation observation = scope.getCurrentObservation();
+			scope.close();
+
+			if (Objects.nonNull(e)) { observation.error(e); }
+			observation.stop();
+		}
+	}
+
+	@Bean
+	public StatementObservationListener statementObservationListener(final ObservationRegistry registry) {
+		return new StatementObservationListener(registry);
+	}
+
+	@Bean
+	public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+		return new ContextPropagatingTaskDecorator();
+	}
+}
@@ -0,0 +1,156 @@
+package io.doe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.doe.domain.BaseRes;
+import io.doe.domain.InfoRow;
+import io.doe.domain.MultiGetRes;
+import io.doe.service.ResourceService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Base64;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see WarmupConfig
+ * @since 2026-10-18
+ */
+
+@Configuration
+@EnableConfigurationProperties(BaseProperties.Warmup.class)
+public class WarmupConfig {
+
+	private final BaseProperties.Warmup props;
+
+	@Autowired
+	public WarmupConfig(final BaseProperties.Warmup props) {
+		this.props = props;
+	}
+
+	record WarmupPayload(String text, @JacksonConfig.XssSanitize String html, LocalDate date, LocalDateTime dateTime, ZonedDateTime zonedDateTime) { /* request body shape */ }
+
+	@Slf4j
+	public static class WarmupRunner implements ApplicationRunner {
+
+		private static final int ROWS = 64;
+		private static final String PAYLOAD = """
+				{"text":" plain ","html":"<b>bold</b>","date":"2024-07-08","dateTime":"2024-07-08 10:00:00","zonedDateTime":"2024-07-08T10:00:00"}""";
+
+		private final BaseProperties.Warmup props;
+		private final ResourceService service;
+		private final ObjectMapper mapper;
+		private final JwtDecoder decoder;
+
+		protected WarmupRunner(final BaseProperties.Warmup props, final ResourceService service, final ObjectMapper mapper, final JwtDecoder decoder) {
+			this.props = props; this.service = service; this.mapper = mapper; this.decoder = decoder;
+		}
+
+		/* checked here rather than with a bean condition, which spring aot would settle at build time */
+		@Override
+		public void run(final ApplicationArguments args) throws GeneralSecurityException, IOException, JOSEException {
+
+			if (!props.isEnabled()) { return; }
+
+			final String token = sign(signingKey());
+			final List<Integer> ids = IntStream.rangeClosed(1, ROWS).boxed().toList();
+
+			final long start = System.nanoTime();
+			final long deadline = start + props.getMaxDuration().toNanos();
+
+			int done = 0;
+			int rejected = 0;
+
+			try {
+				for (; done < props.getIterations() && System.nanoTime() - deadline < 0; done++) { rejected += iterate(token, ids); }
+			} catch (final IOException | RuntimeException e) {
+				log.warn("Warm-up Stopped After {} Iterations -> {}", done, e.getMessage());
+			}
+
+			log.info("Warm-up Finished -> {} of {} Iterations in {}ms, {} Tokens Rejected", done, props.getIterations(), Duration.ofNanos(System.nanoTime() - start).toMillis(), rejected);
+		}
+
+		/* reads stay bounded to one multi-get chunk per table, the point is the code paths, not the data */
+		private int iterate(final String token, final List<Integer> ids) throws IOException {
+
+			int rejected = 0;
+
+			try {
+				decoder.decode(token);
+			} catch (final JwtException e) {
+				rejected++;
+			}
+
+			final MultiGetRes publicRows = service.retrievePublicRowsByIds(ids);
+			final MultiGetRes secretRows = service.retrieveSecretRowsByIds(ids);
+
+			mapper.writeValueAsBytes(BaseRes.success(publicRows));
+			mapper.writeValueAsBytes(BaseRes.success(secretRows.rows().stream().map(InfoRow::contents).toList()));
+			mapper.writeValueAsBytes(BaseRes.from("warm-up"));
+
+			mapper.readValue(PAYLOAD, WarmupPayload.class);
+
+			return rejected;
+		}
+
+		/* with the private half of the configured public key the application's decoder accepts the token, with a throwaway key it still parses it and runs the signature check before rejecting it */
+		private PrivateKey signingKey() throws GeneralSecurityException, IOException {
+
+			if (!StringUtils.hasText(props.getSigningKeyPath())) {
+				final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+				generator.initialize(2048);
+				return generator.generateKeyPair().getPrivate();
+			}
+
+			try (final InputStream is = ResourceUtils.getURL(props.getSigningKeyPath()).openStream()) {
+				return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(Base64.decodeBase64(is.readAllBytes())));
+			}
+		}
+
+		private static String sign(final PrivateKey key) throws JOSEException {
+
+			final JWTClaimsSet claims = new JWTClaimsSet.Builder().subject("warm-up").claim("scope", "resource:read")
+					.issueTime(new Date()).expirationTime(Date.from(Instant.now().plus(Duration.ofHours(1)))).build();
+
+			final SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+			jwt.sign(new RSASSASigner(key));
+
+			return jwt.serialize();
+		}
+	}
+
+	@Bean
+	public WarmupRunner warmupRunner(final ResourceService service, final ObjectMapper mapper, final JwtDecoder decoder) {
+		return new WarmupRunner(props, service, mapper, decoder);
+	}
+}
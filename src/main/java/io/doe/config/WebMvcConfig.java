@@ -1,32 +1,46 @@
 package io.doe.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.Part;
+import io.doe.common.JsonCodecs;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.MutablePropertyValues;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.lang.Nullable;
+import org.springframework.util.FastByteArrayOutputStream;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.ServletRequestDataBinder;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.AbstractRequestLoggingFilter;
+import org.springframework.web.filter.CommonsRequestLoggingFilter;
 import org.springframework.web.method.annotation.InitBinderDataBinderFactory;
 import org.springframework.web.method.support.InvocableHandlerMethod;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
 import org.springframework.web.multipart.support.StandardServletPartUtils;
+import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -35,7 +49,11 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
 import org.springframework.web.util.WebUtils;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Type;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.*;
@@ -49,10 +67,13 @@ import java.util.stream.Collectors;
  */
 
 @Configuration
+@EnableConfigurationProperties(BaseProperties.RequestFilter.class)
 public class WebMvcConfig {
 
+	public static final String STREAMING_UPLOAD_SUFFIX = "/_upload";
+
 	@Bean
-	public WebMvcConfigurer webMvcConfigurer() {
+	public WebMvcConfigurer webMvcConfigurer(final UrlBasedCorsConfigurationSource cors) {
 
 		return new WebMvcConfigurer() {
 
@@ -61,14 +82,24 @@ public class WebMvcConfig {
 
 			@Override
 			public void addCorsMappings(final CorsRegistry cr) {
-				cr.addMapping("/**").allowedOrigins("*").allowedMethods(Arrays.stream(HttpMethod.values()).map(HttpMethod::name).toArray(String[]::new));
+				cors.getCorsConfigurations().forEach((p, c) -> cr.addMapping(p).combine(c));
 			}
 		};
 	}
 
 	@Bean
-	public HttpMessageConverters customRefinedHttpMessageConverters(final Jackson2ObjectMapperBuilder builder) {
-		return new CustomHttpMessageConverters(new MappingJackson2HttpMessageConverter(builder.build()));
+	public HttpMessageConverters customRefinedHttpMessageConverters(final JsonCodecs codecs) {
+		return new CustomHttpMessageConverters(new StageTimedJackson2HttpMessageConverter(codecs.mapper()));
+	}
+
+	static class StageTimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+		StageTimedJackson2HttpMessageConverter(final ObjectMapper mapper) { super(mapper); }
+
+		@Override
+		protected void writeInternal(final Object object, @Nullable final Type type, final HttpOutputMessage message) throws IOException {
+			MetricsConfig.RequestStages.measure(MetricsConfig.SERIALIZATION_STAGE, () -> { super.writeInternal(object, type, message); return null; });
+		}
 	}
 
 	static class CustomHttpMessageConverters extends HttpMessageConverters {
@@ -128,10 +159,11 @@ public class WebMvcConfig {
 	}
 
 	@Bean
-	public FilterRegistrationBean<RemoteAddressFilter> remoteAddressFilterRegisterer() {
+	public FilterRegistrationBean<RemoteAddressFilter> remoteAddressFilterRegisterer(final BaseProperties.RequestFilter props) {
 
 		final FilterRegistrationBean<RemoteAddressFilter> bean = new FilterRegistrationBean<>();
 		bean.setFilter(new RemoteAddressFilter());
+		bean.setEnabled(!props.isFused() && props.isRemoteAddress());
 		bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 11);
 
 		return bean;
@@ -150,33 +182,33 @@ public class WebMvcConfig {
 		@Override public void destroy() { /* no operation here */ }
 	}
 
+	/* parameters are converted on first use, reading them up front would make the container parse and spool a multipart body meant for a streaming upload */
 	static class SnakeCaseParameterNameWrapper extends HttpServletRequestWrapper {
 
-		private final Map<String, String[]> converted;
+		@Nullable private Map<String, String[]> converted;
 
 		SnakeCaseParameterNameWrapper(final HttpServletRequest request) {
 			super(request);
-			converted = convertParameters(request.getParameterMap());
 		}
 
 		@Nullable @Override
 		public String getParameter(final String name) {
-			return Optional.ofNullable(converted.get(name)).map(v -> v[0]).orElse(null);
+			return Optional.ofNullable(converted().get(name)).map(v -> v[0]).orElse(null);
 		}
 
 		@Override
 		public Map<String, String[]> getParameterMap() {
-			return converted;
+			return converted();
 		}
 
 		@Override
 		public Enumeration<String> getParameterNames() {
-			return Collections.enumeration(converted.keySet());
+			return Collections.enumeration(converted().keySet());
 		}
 
 		@Nullable @Override
 		public String[] getParameterValues(final String name) {
-			return converted.get(name);
+			return converted().get(name);
 		}
 
 		@Override
@@ -188,21 +220,294 @@ public class WebMvcConfig {
 			return !source.contains("_") ? source : CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, source);
 		}
 
+		private Map<String, String[]> converted() {
+
+			if (Objects.isNull(converted)) { converted = convertParameters(super.getParameterMap()); }
+
+			return converted;
+		}
+
 		private Map<String, String[]> convertParameters(final Map<String, String[]> source) {
 			return source.entrySet().stream().collect(Collectors.toMap(e -> toCamelCase(e.getKey()), Map.Entry::getValue));
 		}
 	}
 
 	@Bean
-	public FilterRegistrationBean<SnakeCaseParameterNameFilter> snakeCaseParameterNameFilterRegisterer() {
+	public FilterRegistrationBean<SnakeCaseParameterNameFilter> snakeCaseParameterNameFilterRegisterer(final BaseProperties.RequestFilter props) {
 
 		final FilterRegistrationBean<SnakeCaseParameterNameFilter> bean = new FilterRegistrationBean<>();
 		bean.setFilter(new SnakeCaseParameterNameFilter());
+		bean.setEnabled(!props.isFused() && props.isSnakeCaseParameter());
 		bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 12);
 
 		return bean;
 	}
 
+	/* remote address, snake_case parameters and request logging in one filter and one wrapper, in place of the three filters above */
+	public static class FusedRequestFilter extends AbstractRequestLoggingFilter {
+
+		private static final Log REQUEST_LOG = LogFactory.getLog(CommonsRequestLoggingFilter.class);
+
+		private final boolean remoteAddress;
+		private final boolean snakeCaseParameter;
+		private final boolean requestLogging;
+
+		FusedRequestFilter(final BaseProperties.RequestFilter props) {
+
+			this.remoteAddress = props.isRemoteAddress(); this.snakeCaseParameter = props.isSnakeCaseParameter(); this.requestLogging = props.isRequestLogging();
+
+			setIncludeQueryString(true); setIncludePayload(true);
+			setMaxPayloadLength(10000);  setIncludeHeaders(true);
+		}
+
+		@Override
+		protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain chain) throws ServletException, IOException {
+
+			final boolean first = !isAsyncDispatch(request);
+			final boolean logging = shouldLog(request);
+
+			final HttpServletRequest use = first && (remoteAddress || snakeCaseParameter || logging) ? new FusedRequestWrapper(request, remoteAddress, snakeCaseParameter, logging ? getMaxPayloadLength() : 0) : request;
+			if (first && logging) { beforeRequest(use, createMessage(use, DEFAULT_BEFORE_MESSAGE_PREFIX, DEFAULT_BEFORE_MESSAGE_SUFFIX)); }
+
+			try {
+				chain.doFilter(use, response);
+			} finally {
+				if (logging && !isAsyncStarted(use)) { afterRequest(use, createMessage(use, DEFAULT_AFTER_MESSAGE_PREFIX, DEFAULT_AFTER_MESSAGE_SUFFIX)); }
+			}
+		}
+
+		@Override
+		protected boolean shouldLog(final HttpServletRequest request) {
+			return requestLogging && REQUEST_LOG.isDebugEnabled();
+		}
+
+		@Override
+		protected void beforeRequest(final HttpServletRequest request, final String message) {
+			REQUEST_LOG.debug(message);
+		}
+
+		@Override
+		protected void afterRequest(final HttpServletRequest request, final String message) {
+			REQUEST_LOG.debug(message);
+		}
+
+		@Nullable @Override
+		protected String getMessagePayload(final HttpServletRequest request) {
+
+			final FusedRequestWrapper wrapper = WebUtils.getNativeRequest(request, FusedRequestWrapper.class);
+			return Objects.isNull(wrapper) ? null : wrapper.payload(getMaxPayloadLength());
+		}
+	}
+
+	/* resolves the client address and converts parameter names once, on first use, and keeps a copy of the body only while it is logged */
+	static class FusedRequestWrapper extends HttpServletRequestWrapper {
+
+		private final boolean remoteAddress;
+		private final boolean snakeCaseParameter;
+		@Nullable private final FastByteArrayOutputStream captured;
+		private final int captureLimit;
+
+		@Nullable private String resolvedAddress;
+		@Nullable private Map<String, String[]> converted;
+		@Nullable private ServletInputStream input;
+		@Nullable private BufferedReader reader;
+
+		FusedRequestWrapper(final HttpServletRequest request, final boolean remoteAddress, final boolean snakeCaseParameter, final int captureLimit) {
+			super(request);
+			this.remoteAddress = remoteAddress; this.snakeCaseParameter = snakeCaseParameter;
+			this.captured = captureLimit > 0 ? new FastByteArrayOutputStream(1024) : null; this.captureLimit = captureLimit;
+		}
+
+		@Override
+		public String getRemoteHost() {
+
+			if (!remoteAddress) { return super.getRemoteHost(); }
+
+			try {
+				return InetAddress.getByName(getRemoteAddr()).getHostName();
+			} catch (final UnknownHostException e) {
+				return getRemoteAddr();
+			}
+		}
+
+		@Override
+		public String getRemoteAddr() {
+
+			if (!remoteAddress) { return super.getRemoteAddr(); }
+			if (Objects.isNull(resolvedAddress)) { resolvedAddress = resolveAddress(); }
+
+			return resolvedAddress;
+		}
+
+		private String resolveAddress() {
+
+			for (final String candidate : RemoteAddressWrapper.CANDIDATES) {
+				final String value = super.getHeader(candidate);
+				if (!StringUtils.hasText(value) || Objects.equals("unknown", value.strip())) { continue; }
+				final int comma = value.indexOf(',');
+				return (comma < 0 ? value : value.substring(0, comma)).strip();
+			}
+
+			return super.getRemoteAddr();
+		}
+
+		@Nullable @Override
+		public String getParameter(final String name) {
+
+			if (!snakeCaseParameter) { return super.getParameter(name); }
+
+			final String[] values = parameters().get(name);
+			return Objects.isNull(values) ? null : values[0];
+		}
+
+		@Override
+		public Map<String, String[]> getParameterMap() {
+			return snakeCaseParameter ? parameters() : super.getParameterMap();
+		}
+
+		@Override
+		public Enumeration<String> getParameterNames() {
+			return snakeCaseParameter ? Collections.enumeration(parameters().keySet()) : super.getParameterNames();
+		}
+
+		@Nullable @Override
+		public String[] getParameterValues(final String name) {
+			return snakeCaseParameter ? parameters().get(name) : super.getParameterValues(name);
+		}
+
+		@Override
+		public Part getPart(final String name) throws IOException, ServletException {
+			return !snakeCaseParameter || !name.contains("_") ? super.getPart(name) : Optional.ofNullable(super.getPart(toCamelCase(name))).orElse(super.getPart(name));
+		}
+
+		/* the container map is returned as is unless some name has an underscore in it */
+		private Map<String, String[]> parameters() {
+
+			if (Objects.nonNull(converted)) { return converted; }
+
+			final Map<String, String[]> source = super.getParameterMap();
+			Map<String, String[]> result = source;
+
+			for (final String name : source.keySet()) {
+				if (name.indexOf('_') >= 0) { result = null; break; }
+			}
+
+			if (Objects.isNull(result)) {
+				result = LinkedHashMap.newLinkedHashMap(source.size());
+				for (final Map.Entry<String, String[]> e : source.entrySet()) { result.putIfAbsent(toCamelCase(e.getKey()), e.getValue()); }
+				result = Collections.unmodifiableMap(result);
+			}
+
+			converted = result;
+			return converted;
+		}
+
+		private static String toCamelCase(final String source) {
+			return !source.contains("_") ? source : CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, source);
+		}
+
+		@Override
+		public ServletInputStream getInputStream() throws IOException {
+
+			if (Objects.isNull(captured)) { return super.getInputStream(); }
+			if (Objects.isNull(input)) { input = new CapturingInputStream(super.getInputStream(), captured, captureLimit); }
+
+			return input;
+		}
+
+		@Override
+		public BufferedReader getReader() throws IOException {
+
+			if (Objects.isNull(captured)) { return super.getReader(); }
+			if (Objects.isNull(reader)) { reader = new BufferedReader(new InputStreamReader(getInputStream(), Objects.requireNonNullElse(getCharacterEncoding(), WebUtils.DEFAULT_CHARACTER_ENCODING))); }
+
+			return reader;
+		}
+
+		@Nullable
+		String payload(final int max) {
+
+			if (Objects.isNull(captured)) { return null; }
+
+			if (captured.size() == 0) {
+				if (!StringUtils.startsWithIgnoreCase(getContentType(), MediaType.APPLICATION_FORM_URLENCODED_VALUE)) { return null; }
+				final String form = super.getParameterMap().entrySet().stream()
+						.flatMap(e -> Arrays.stream(e.getValue()).map(v -> e.getKey() + "=" + v)).collect(Collectors.joining("&"));
+				return form.isEmpty() ? null : StringUtils.truncate(form, max);
+			}
+
+			final byte[] buf = captured.toByteArrayUnsafe();
+
+			try {
+				return new String(buf, 0, Math.min(captured.size(), max), Objects.requireNonNullElse(getCharacterEncoding(), WebUtils.DEFAULT_CHARACTER_ENCODING));
+			} catch (final UnsupportedEncodingException e) {
+				return "[unknown]";
+			}
+		}
+	}
+
+	static class CapturingInputStream extends ServletInputStream {
+
+		private final ServletInputStream delegate;
+		private final FastByteArrayOutputStream captured;
+		private final int limit;
+
+		CapturingInputStream(final ServletInputStream delegate, final FastByteArrayOutputStream captured, final int limit) {
+			this.delegate = delegate; this.captured = captured; this.limit = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			final int b = delegate.read();
+			if (b >= 0 && captured.size() < limit) { captured.write(b); }
+
+			return b;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+
+			final int n = delegate.read(b, off, len);
+			if (n > 0 && captured.size() < limit) { captured.write(b, off, Math.min(n, limit - captured.size())); }
+
+			return n;
+		}
+
+		@Override public boolean isFinished() { return delegate.isFinished(); }
+		@Override public boolean isReady() { return delegate.isReady(); }
+		@Override public void setReadListener(final ReadListener listener) { delegate.setReadListener(listener); }
+	}
+
+	@Bean
+	public FilterRegistrationBean<FusedRequestFilter> fusedRequestFilterRegisterer(final BaseProperties.RequestFilter props) {
+
+		final FilterRegistrationBean<FusedRequestFilter> bean = new FilterRegistrationBean<>();
+		bean.setFilter(new FusedRequestFilter(props));
+		bean.setEnabled(props.isFused());
+		bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+
+		return bean;
+	}
+
+	/* uploads to a streaming endpoint are read by the handler straight from the request, so the container never spools them to disk */
+	static class StreamingAwareMultipartResolver extends StandardServletMultipartResolver {
+
+		@Override
+		public boolean isMultipart(final HttpServletRequest request) {
+			return !request.getRequestURI().endsWith(STREAMING_UPLOAD_SUFFIX) && super.isMultipart(request);
+		}
+	}
+
+	@Bean(name=DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+	public StandardServletMultipartResolver multipartResolver(final MultipartProperties props) {
+
+		final StandardServletMultipartResolver resolver = new StreamingAwareMultipartResolver();
+		resolver.setResolveLazily(props.isResolveLazily());
+
+		return resolver;
+	}
+
 	@Bean
 	public WebMvcRegistrations requestMappingHandlerAdapterProvider() {
 
@@ -264,7 +569,7 @@ public class WebMvcConfig {
 				});
 			}
 
-			if (StringUtils.startsWithIgnoreCase(request.getContentType(), MediaType.MULTIPART_FORM_DATA_VALUE)) {
+			if (StringUtils.startsWithIgnoreCase(request.getContentType(), MediaType.MULTIPART_FORM_DATA_VALUE) && Objects.isNull(WebUtils.getNativeRequest(request, MultipartRequest.class))) {
 				addServletPartsToMutablePropertyValues(mpv, WebUtils.getNativeRequest(request, HttpServletRequest.class));
 			}
 		}
@@ -273,10 +578,12 @@ public class WebMvcConfig {
 			return !source.contains("_") ? source : CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, source);
 		}
 
+		/* a resolved multipart request went through bindMultipart and the binder itself already added the parts under their own names */
 		private void addServletPartsToMutablePropertyValues(final MutablePropertyValues mpv, @Nullable final HttpServletRequest request) {
 
 			if (Objects.nonNull(request) && HttpMethod.POST.matches(request.getMethod())) {
 				StandardServletPartUtils.getParts(request).forEach((k, v) -> {
+					if (!k.contains("_")) { return; }
 					final String converted = toCamelCase(k);
 					if (v.size() == 1) {
 						final Part part = v.getFirst();
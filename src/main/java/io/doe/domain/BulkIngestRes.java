@@ -0,0 +1,15 @@
+package io.doe.domain;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see BulkIngestRes
+ * @since 2026-10-18
+ */
+
+public record BulkIngestRes(String table, long rows, long rejected, long chunks, long elapsedMillis, long rowsPerSecond) {
+
+	public static BulkIngestRes of(final String table, final long rows, final long rejected, final long chunks, final long elapsedNanos) {
+		return new BulkIngestRes(table, rows, rejected, chunks, elapsedNanos / 1_000_000, elapsedNanos == 0 ? 0 : Math.round(rows * 1e9 / elapsedNanos));
+	}
+}
@@ -0,0 +1,12 @@
+package io.doe.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ChangeFeedEntry
+ * @since 2026-10-18
+ */
+
+public record ChangeFeedEntry(int resourceId, String contents, LocalDateTime createDt) { /* one inserted row */ }
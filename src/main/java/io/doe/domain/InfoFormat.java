@@ -0,0 +1,54 @@
+package io.doe.domain;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoFormat
+ * @since 2026-10-18
+ */
+
+public enum InfoFormat {
+
+	CSV(InfoFormat.CSV_VALUE, "csv"), NDJSON(InfoFormat.NDJSON_VALUE, "ndjson");
+
+	public static final String PATTERN = "^(csv|ndjson)$";
+	public static final String CSV_VALUE = "text/csv";
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+
+	private final String mediaType;
+	private final String extension;
+
+	InfoFormat(final String mediaType, final String extension) {
+		this.mediaType = mediaType; this.extension = extension;
+	}
+
+	public String mediaType() { return mediaType; }
+	public String extension() { return extension; }
+
+	public static InfoFormat parse(final String format) {
+		return valueOf(format.strip().toUpperCase(Locale.ROOT));
+	}
+
+	/* a declared media type wins over the file name, json and jsonl files are read as ndjson */
+	public static Optional<InfoFormat> detect(@Nullable final String contentType, @Nullable final String filename) {
+
+		final String type = Objects.toString(contentType, "").toLowerCase(Locale.ROOT);
+		final Optional<InfoFormat> declared = Arrays.stream(values()).filter(f -> type.startsWith(f.mediaType)).findFirst();
+		if (declared.isPresent()) { return declared; }
+		if (type.startsWith("application/json")) { return Optional.of(NDJSON); }
+
+		return switch (Objects.toString(StringUtils.getFilenameExtension(filename), "").toLowerCase(Locale.ROOT)) {
+			case "csv" -> Optional.of(CSV);
+			case "ndjson", "jsonl", "json" -> Optional.of(NDJSON);
+			default -> Optional.empty();
+		};
+	}
+}
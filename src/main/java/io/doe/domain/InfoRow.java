@@ -0,0 +1,41 @@
+package io.doe.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoRow
+ * @since 2026-10-18
+ */
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InfoRow(@Nullable Integer resourceId, @Nullable String contents, @Nullable LocalDateTime createDt) {
+
+	public static final String FIELDS_PATTERN = "^(resource_id|contents|create_dt)(,(resource_id|contents|create_dt))*$";
+
+	/* a selectable column, the name is both the query parameter value and the json property */
+	public enum Field {
+
+		RESOURCE_ID, CONTENTS, CREATE_DT;
+
+		public String column() {
+			return name();
+		}
+
+		public static Set<Field> parse(final String fields) {
+
+			final Set<Field> result = EnumSet.noneOf(Field.class);
+			Arrays.stream(fields.split(",")).map(f -> Field.valueOf(f.strip().toUpperCase(Locale.ROOT))).forEach(result::add);
+
+			return result;
+		}
+	}
+}
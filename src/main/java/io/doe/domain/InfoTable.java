@@ -0,0 +1,10 @@
+package io.doe.domain;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoTable
+ * @since 2026-10-18
+ */
+
+public enum InfoTable { PUBLIC_INFO, SECRET_INFO }
@@ -0,0 +1,25 @@
+package io.doe.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoWriteCount
+ * @since 2026-10-18
+ */
+
+@Entity @Table(name="INFO_WRITE_COUNT")
+@Immutable
+@Getter @ToString @NoArgsConstructor(access=AccessLevel.PROTECTED)
+public class InfoWriteCount {
+
+	/* bumped by every writing transaction of the table, read only here */
+	@Id @Enumerated(EnumType.STRING) private InfoTable tableName;
+	private long writes;
+}
@@ -0,0 +1,18 @@
+package io.doe.domain;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MultiGetReq
+ * @since 2026-10-18
+ */
+
+public record MultiGetReq(@NotEmpty @Size(max=MultiGetReq.MAX_IDS) List<@NotNull Integer> ids) {
+	public static final int MAX_IDS = 1000;
+}
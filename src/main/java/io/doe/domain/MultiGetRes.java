@@ -0,0 +1,12 @@
+package io.doe.domain;
+
+import java.util.List;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MultiGetRes
+ * @since 2026-10-18
+ */
+
+public record MultiGetRes(List<InfoRow> rows, List<Integer> missing) { /* rows in request order, ids without a row listed once */ }
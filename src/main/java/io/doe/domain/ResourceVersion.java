@@ -0,0 +1,30 @@
+package io.doe.domain;
+
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ResourceVersion
+ * @since 2026-10-18
+ */
+
+public record ResourceVersion(@Nullable Integer maxResourceId, @Nullable LocalDateTime maxCreateDt, long changes) {
+
+	/* identity ids commit out of order, so a row landing below the max id only shows up in the change count, the table's write counter or the rows a snapshot holds */
+	public String etag() {
+		return "W/\"" + changes + "." + Objects.requireNonNullElse(maxResourceId, 0) + "\"";
+	}
+
+	public String etag(final String variant) {
+		return "W/\"" + changes + "." + Objects.requireNonNullElse(maxResourceId, 0) + "-" + variant + "\"";
+	}
+
+	public long lastModified() {
+		return Objects.isNull(maxCreateDt) ? -1 : maxCreateDt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
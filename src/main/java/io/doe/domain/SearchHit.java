@@ -0,0 +1,10 @@
+package io.doe.domain;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see SearchHit
+ * @since 2026-10-18
+ */
+
+public record SearchHit(int resourceId, String contents, float score) { /* ranked search result */ }
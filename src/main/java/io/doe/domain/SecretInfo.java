@@ -5,7 +5,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.SourceType;
 
 import java.time.LocalDateTime;
@@ -18,9 +21,12 @@ import java.time.LocalDateTime;
  */
 
 @Entity @Table(name="SECRET_INFO")
+@Immutable @Cacheable @Cache(usage=CacheConcurrencyStrategy.READ_ONLY, region=SecretInfo.CACHE_REGION)
 @Getter @ToString @NoArgsConstructor(access=AccessLevel.PROTECTED)
 public class SecretInfo {
 
+	public static final String CACHE_REGION = "secret-info";
+
 	@Id @GeneratedValue(strategy=GenerationType.IDENTITY) private Integer resourceId;
 	private String contents;
 	@CreationTimestamp(source=SourceType.DB) private LocalDateTime createDt;
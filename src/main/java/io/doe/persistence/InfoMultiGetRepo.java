@@ -0,0 +1,15 @@
+package io.doe.persistence;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoMultiGetRepo
+ * @since 2026-10-18
+ */
+
+public interface InfoMultiGetRepo {
+	<T> List<T> multiGet(Class<T> type, Collection<Integer> ids);
+}
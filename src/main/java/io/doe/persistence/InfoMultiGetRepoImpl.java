@@ -0,0 +1,74 @@
+package io.doe.persistence;
+
+import io.doe.config.BaseProperties;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.metamodel.EntityType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SequencedCollection;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoMultiGetRepoImpl
+ * @since 2026-10-18
+ */
+
+public class InfoMultiGetRepoImpl implements InfoMultiGetRepo {
+
+	private final EntityManager em;
+	private final BaseProperties.Mget props;
+
+	public InfoMultiGetRepoImpl(final EntityManager em, final BaseProperties.Mget props) {
+		this.em = em; this.props = props;
+	}
+
+	/* ids held by the second-level cache are served from memory, the rest go out in IN lists of one fixed length so a single statement plan serves every chunk */
+	@Override
+	public <T> List<T> multiGet(final Class<T> type, final Collection<Integer> ids) {
+
+		final SequencedCollection<Integer> distinct = new LinkedHashSet<>(ids);
+		final Map<Integer, T> found = HashMap.newHashMap(distinct.size());
+		final List<Integer> misses = new ArrayList<>(distinct.size());
+		final Cache cache = em.getEntityManagerFactory().getCache();
+
+		for (final Integer id : distinct) {
+			if (cache.contains(type, id)) { found.put(id, em.find(type, id)); } else { misses.add(id); }
+		}
+
+		if (!misses.isEmpty()) {
+
+			final EntityType<T> entity = em.getMetamodel().entity(type);
+			final String jpql = "SELECT e FROM " + entity.getName() + " e WHERE e." + entity.getId(Integer.class).getName() + " IN :ids";
+			final PersistenceUnitUtil util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+			final int size = props.getChunkSize();
+
+			for (int from = 0; from < misses.size(); from += size) {
+				final List<Integer> chunk = pad(misses.subList(from, Math.min(from + size, misses.size())), size);
+				em.createQuery(jpql, type).setParameter("ids", chunk).getResultList().forEach(e -> found.put((Integer)util.getIdentifier(e), e));
+			}
+		}
+
+		return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
+	}
+
+	/* repeating the last id keeps the placeholder count constant without changing the result */
+	private static List<Integer> pad(final List<Integer> chunk, final int size) {
+
+		if (chunk.size() == size) { return chunk; }
+
+		final List<Integer> padded = new ArrayList<>(size);
+		padded.addAll(chunk);
+		while (padded.size() < size) { padded.add(chunk.getLast()); }
+
+		return padded;
+	}
+}
@@ -1,9 +1,16 @@
 package io.doe.persistence;
 
 import io.doe.domain.PublicInfo;
+import io.doe.domain.ResourceVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * @author <loonabus@gmail.com>
  * @version 1.0.0
@@ -12,4 +19,19 @@ import org.springframework.stereotype.Repository;
  */
 
 @Repository
-public interface PublicInfoRepo extends JpaRepository<PublicInfo, Integer> { /* no additional operation for now */ }
+public interface PublicInfoRepo extends JpaRepository<PublicInfo, Integer>, InfoMultiGetRepo {
+
+	@Query("SELECT i FROM PublicInfo i WHERE i.createDt >= :from AND i.createDt < :to ORDER BY i.createDt, i.resourceId")
+	List<PublicInfo> findCreatedBetween(LocalDateTime from, LocalDateTime to, Limit limit);
+
+	@Query("SELECT new io.doe.domain.ResourceVersion(MAX(i.resourceId), MAX(i.createDt), (SELECT w.writes FROM InfoWriteCount w WHERE w.tableName = io.doe.domain.InfoTable.PUBLIC_INFO)) FROM PublicInfo i")
+	ResourceVersion findVersion();
+
+	List<PublicInfo> findByResourceIdGreaterThanOrderByResourceIdAsc(Integer resourceId, Limit limit);
+
+	List<PublicInfo> findByResourceIdBetweenOrderByResourceIdAsc(Integer from, Integer to);
+
+	default List<PublicInfo> findAllByResourceIdChunked(final Collection<Integer> ids) {
+		return multiGet(PublicInfo.class, ids);
+	}
+}
@@ -1,9 +1,16 @@
 package io.doe.persistence;
 
 import io.doe.domain.SecretInfo;
+import io.doe.domain.ResourceVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * @author <loonabus@gmail.com>
  * @version 1.0.0
@@ -12,4 +19,15 @@ import org.springframework.stereotype.Repository;
  */
 
 @Repository
-public interface SecretInfoRepo extends JpaRepository<SecretInfo, Integer> { /* no additional operation for now */ }
+public interface SecretInfoRepo extends JpaRepository<SecretInfo, Integer>, InfoMultiGetRepo {
+
+	@Query("SELECT i FROM SecretInfo i WHERE i.createDt >= :from AND i.createDt < :to ORDER BY i.createDt, i.resourceId")
+	List<SecretInfo> findCreatedBetween(LocalDateTime from, LocalDateTime to, Limit limit);
+
+	@Query("SELECT new io.doe.domain.ResourceVersion(MAX(i.resourceId), MAX(i.createDt), (SELECT w.writes FROM InfoWriteCount w WHERE w.tableName = io.doe.domain.InfoTable.SECRET_INFO)) FROM SecretInfo i")
+	ResourceVersion findVersion();
+
+	default List<SecretInfo> findAllByResourceIdChunked(final Collection<Integer> ids) {
+		return multiGet(SecretInfo.class, ids);
+	}
+}
@@ -1,7 +1,7 @@
 package io.doe.service;
 
-import io.doe.common.Constants;
-import org.springframework.context.support.MessageSourceAccessor;
+import io.doe.common.MessageKey;
+import io.doe.common.MessageResolver;
 import org.springframework.lang.Nullable;
 
 /**
@@ -13,9 +13,13 @@ import org.springframework.lang.Nullable;
 
 public interface BaseService {
 
+	default String retrieveMessageFrom(final MessageKey k, @Nullable final Object... arr) {
+		return retrieveResolver().resolve(k, arr);
+	}
+
 	default String retrieveMessageFrom(final String k, @Nullable final Object... arr) {
-		return retrieveAccessor().getMessage(Constants.BASE_PACKAGE + ".service." + k, arr, Constants.DEFAULT_EXCEPTION_MESSAGE);
+		return retrieveMessageFrom(MessageKey.service(k), arr);
 	}
 
-	MessageSourceAccessor retrieveAccessor();
+	MessageResolver retrieveResolver();
 }
@@ -0,0 +1,37 @@
+package io.doe.service;
+
+import io.doe.domain.BulkIngestRes;
+import io.doe.domain.InfoFormat;
+import io.doe.domain.InfoTable;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see BulkIngestService
+ * @since 2026-10-18
+ */
+
+public interface BulkIngestService {
+
+	BulkIngestRes ingest(InfoTable table, InputStream source) throws IOException;
+	BulkIngestRes ingest(InfoTable table, InfoFormat format, InputStream source, Progress progress) throws IOException;
+	BulkIngestRes ingest(InfoTable table, HttpServletRequest request) throws IOException;
+	List<BulkIngestRes> upload(InfoTable table, HttpServletRequest request) throws IOException, HttpMediaTypeNotSupportedException;
+
+	record Row(@Nullable String contents) { /* one element of a bulk payload */ }
+
+	@FunctionalInterface
+	interface Progress {
+
+		Progress NONE = (rows, rejected) -> { /* nothing to report */ };
+
+		void committed(long rows, long rejected);
+	}
+}
@@ -0,0 +1,187 @@
+package io.doe.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.io.CountingInputStream;
+import io.doe.common.JsonCodecs;
+import io.doe.config.BaseProperties;
+import io.doe.domain.BulkIngestRes;
+import io.doe.domain.InfoFormat;
+import io.doe.domain.InfoTable;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see BulkIngestServiceImpl
+ * @since 2026-10-18
+ */
+
+@Slf4j
+@Service
+public class BulkIngestServiceImpl implements BulkIngestService {
+
+	private static final int MAX_CONTENTS_LENGTH = 100;
+
+	/* last statement of the chunk so the counter row stays locked only until the commit, conditional requests read it instead of counting the table */
+	private static final String WRITE_COUNT_SQL = "UPDATE INFO_WRITE_COUNT SET WRITES = WRITES + 1 WHERE TABLE_NAME = ?";
+
+	/* a null element is handed back as null and counted as rejected instead of failing the rest of the payload */
+	private static final DeserializationProblemHandler NULL_ELEMENTS = new DeserializationProblemHandler() {
+		@Override
+		public Object handleUnexpectedToken(final DeserializationContext ctxt, final JavaType type, final JsonToken token, final JsonParser p, final String message) {
+			return token == JsonToken.VALUE_NULL ? null : NOT_HANDLED;
+		}
+	};
+
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final ObjectReader reader;
+	private final ObjectReader csvReader;
+	private final BaseProperties.Bulk props;
+	private final ApplicationEventPublisher publisher;
+	@Nullable private final CacheInvalidationLog invalidations;
+
+	@Autowired
+	public BulkIngestServiceImpl(final JdbcTemplate jt, final PlatformTransactionManager tm, final JsonCodecs codecs, final BaseProperties.Bulk props, final ApplicationEventPublisher publisher,
+			final CacheInvalidationLog invalidations) {
+		this.jt = jt; this.tt = new TransactionTemplate(tm); this.reader = codecs.reader(Row.class).withHandler(NULL_ELEMENTS); this.props = props; this.publisher = publisher; this.invalidations = invalidations.isEnabled() ? invalidations : null;
+		this.csvReader = codecs.csvReader(Row.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).with(CsvSchema.emptySchema().withHeader());
+	}
+
+	@Override
+	public BulkIngestRes ingest(final InfoTable table, final InputStream source) throws IOException {
+		return ingest(table, reader, source, Progress.NONE);
+	}
+
+	/* csv needs a header row, only its CONTENTS column is read so an export file can be fed back as is */
+	@Override
+	public BulkIngestRes ingest(final InfoTable table, final InfoFormat format, final InputStream source, final Progress progress) throws IOException {
+		return ingest(table, format == InfoFormat.CSV ? csvReader : reader, source, progress);
+	}
+
+	@Override
+	public BulkIngestRes ingest(final InfoTable table, final HttpServletRequest request) throws IOException {
+
+		try {
+			return ingest(table, request.getInputStream());
+		} catch (final JsonProcessingException e) {
+			throw new HttpMessageNotReadableException(e.getOriginalMessage(), e, new ServletServerHttpRequest(request));
+		}
+	}
+
+	/* multipart bodies are split here with one small buffer and every file part goes straight into the batched writer, nothing touches the disk */
+	@Override
+	public List<BulkIngestRes> upload(final InfoTable table, final HttpServletRequest request) throws IOException, HttpMediaTypeNotSupportedException {
+
+		final MediaType type = MediaType.parseMediaType(request.getContentType());
+		final CountingInputStream source = new CountingInputStream(request.getInputStream());
+
+		try {
+			if (!MediaType.MULTIPART_FORM_DATA.includes(type)) {
+				return List.of(ingest(table, detect(type.toString(), null), source, progress(table, null, source)));
+			}
+
+			final MultipartStream parts = new MultipartStream(source, MultipartStream.boundary(type), (int)props.getUploadBufferSize().toBytes());
+			final List<BulkIngestRes> results = new ArrayList<>();
+
+			for (MultipartStream.Part part = parts.next(); Objects.nonNull(part); part = parts.next()) {
+				if (Objects.isNull(part.filename())) { continue; }
+				results.add(ingest(table, detect(part.contentType(), part.filename()), part.body(), progress(table, part.filename(), source)));
+			}
+
+			return results;
+		} catch (final JsonProcessingException | MultipartStream.MalformedException e) {
+			throw new HttpMessageNotReadableException(e.getMessage(), e, new ServletServerHttpRequest(request));
+		}
+	}
+
+	private static InfoFormat detect(@Nullable final String contentType, @Nullable final String filename) throws HttpMediaTypeNotSupportedException {
+		return InfoFormat.detect(contentType, filename).orElseThrow(() -> new HttpMediaTypeNotSupportedException("Cannot ingest " + Objects.toString(filename, contentType) + " as csv or ndjson"));
+	}
+
+	private static Progress progress(final InfoTable table, @Nullable final String filename, final CountingInputStream source) {
+		return (rows, rejected) -> log.info("Upload Progress -> {} {} -> {} Rows Committed, {} Rejected, {} Bytes Read", table, Objects.toString(filename, "(body)"), rows, rejected, source.getCount());
+	}
+
+	private BulkIngestRes ingest(final InfoTable table, final ObjectReader reader, final InputStream source, final Progress progress) throws IOException {
+
+		final String sql = "INSERT INTO " + table.name() + " (CONTENTS) VALUES (?)";
+		final List<String> chunk = new ArrayList<>(props.getChunkSize());
+		final long start = System.nanoTime();
+
+		long rows = 0;
+		long rejected = 0;
+		long chunks = 0;
+
+		try (final MappingIterator<Row> it = reader.readValues(source)) {
+			while (it.hasNextValue()) {
+
+				final Row row = it.nextValue();
+				final String contents = Objects.isNull(row) ? null : row.contents();
+				if (!StringUtils.hasText(contents) || contents.length() > MAX_CONTENTS_LENGTH) { rejected++; continue; }
+
+				chunk.add(contents);
+				if (chunk.size() >= props.getChunkSize()) { rows += flush(table, sql, chunk); chunks++; progress.committed(rows, rejected); }
+			}
+		} catch (final JsonProcessingException e) {
+			throw JsonMappingException.from((JsonParser)null, "Malformed bulk payload after " + rows + " committed rows: " + e.getOriginalMessage(), e);
+		}
+
+		if (!chunk.isEmpty()) { rows += flush(table, sql, chunk); chunks++; progress.committed(rows, rejected); }
+
+		final BulkIngestRes res = BulkIngestRes.of(table.name(), rows, rejected, chunks, System.nanoTime() - start);
+		log.info("Bulk Ingest -> {}", res);
+
+		return res;
+	}
+
+	private int flush(final InfoTable table, final String sql, final List<String> chunk) {
+
+		tt.executeWithoutResult(s -> {
+			jt.batchUpdate(sql, chunk, props.getBatchSize(), (ps, v) -> ps.setString(1, v));
+			if (Objects.nonNull(invalidations)) { invalidations.append(table, chunk.size()); }
+			jt.update(WRITE_COUNT_SQL, table.name());
+		});
+
+		final int size = chunk.size();
+		chunk.clear();
+
+		/* the rows are committed whatever a listener does, one that fell behind catches up on the next change */
+		try {
+			publisher.publishEvent(new ResourceChangedEvent(table, size));
+		} catch (final RuntimeException e) {
+			log.warn("Resource Change Delivery Failed for {} -> {}", table, e.getMessage());
+		}
+
+		return size;
+	}
+}
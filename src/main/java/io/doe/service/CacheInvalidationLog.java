@@ -0,0 +1,201 @@
+package io.doe.service;
+
+import io.doe.config.BaseProperties;
+import io.doe.domain.InfoTable;
+import io.doe.domain.PublicInfo;
+import io.doe.domain.SecretInfo;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see CacheInvalidationLog
+ * @since 2026-10-18
+ */
+
+@Slf4j
+@Service
+public class CacheInvalidationLog implements DisposableBean {
+
+	private static final int MAX_MISSING = 1_000;
+	private static final long PRUNE_EVERY_NANOS = 60_000_000_000L;
+	private static final RowMapper<Entry> ENTRY_MAPPER = (rs, n) -> new Entry(rs.getLong(1), InfoTable.valueOf(rs.getString(2)), rs.getLong(3), rs.getString(4));
+
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final EntityManagerFactory emf;
+	private final ApplicationEventPublisher publisher;
+	private final BaseProperties.Invalidation props;
+	private final ThreadPoolTaskScheduler scheduler;
+
+	private final Map<Long, Long> missing = new LinkedHashMap<>();
+	private final Map<InfoTable, Long> pending = new EnumMap<>(InfoTable.class);
+	private final Set<InfoTable> rebuilds = EnumSet.noneOf(InfoTable.class);
+	private long high = -1;
+	private boolean overflowed;
+	private long lastPrune = System.nanoTime();
+
+	record Entry(long logId, InfoTable table, long rows, String nodeId) { /* one committed version bump */ }
+
+	@Autowired
+	public CacheInvalidationLog(final JdbcTemplate jt, final PlatformTransactionManager tm, final EntityManagerFactory emf, final ApplicationEventPublisher publisher,
+			final BaseProperties.Invalidation props, final ThreadPoolTaskSchedulerBuilder builder) {
+
+		this.jt = jt; this.tt = new TransactionTemplate(tm); this.emf = emf; this.publisher = publisher; this.props = props;
+		this.scheduler = builder.poolSize(1).threadNamePrefix("cache-invalidation-").build();
+	}
+
+	/* joins the writer's transaction, so the bump becomes visible to other nodes together with the rows it announces */
+	public void append(final InfoTable table, final long rows) {
+
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) { throw new IllegalStateException("Invalidation log entries must be appended inside the writing transaction"); }
+		jt.update("INSERT INTO CACHE_INVALIDATION_LOG (TABLE_NAME, ROW_COUNT, NODE_ID) VALUES (?, ?, ?)", table.name(), rows, props.getNodeId());
+	}
+
+	/* read on every start rather than through a bean condition, processAot would otherwise decide it for the whole build */
+	boolean isEnabled() {
+		return props.isEnabled();
+	}
+
+	/* starts from the current head, everything before it is already in the caches this node just built */
+	@EventListener(ApplicationStartedEvent.class)
+	public void start() {
+
+		if (!props.isEnabled()) { return; }
+
+		synchronized (this) { high = head(); }
+
+		scheduler.initialize();
+		scheduler.scheduleWithFixedDelay(this::poll, props.getPollInterval());
+
+		log.info("Cache Invalidation Log Polling -> Node {} from Entry {} every {}", props.getNodeId(), high, props.getPollInterval());
+	}
+
+	@Override
+	public void destroy() {
+		scheduler.shutdown();
+	}
+
+	/* new entries come from a primary key range scan past the highest id seen, ids skipped on the way are looked up again until they show up or time out,
+	   every entry read is parked per table before the watermark moves and a table leaves only once its delivery went through */
+	synchronized void poll() {
+
+		final long now = System.nanoTime();
+
+		try {
+			if (!missing.isEmpty()) {
+				read("SELECT LOG_ID, TABLE_NAME, ROW_COUNT, NODE_ID FROM CACHE_INVALIDATION_LOG WHERE LOG_ID IN (" + missing.keySet().stream().map(String::valueOf).collect(Collectors.joining(", ")) + ")")
+						.forEach(e -> { missing.remove(e.logId()); collect(e); });
+			}
+
+			List<Entry> entries;
+
+			do {
+				entries = read("SELECT LOG_ID, TABLE_NAME, ROW_COUNT, NODE_ID FROM CACHE_INVALIDATION_LOG WHERE LOG_ID > ? ORDER BY LOG_ID LIMIT ?", high, props.getBatchSize());
+				for (final Entry e : entries) {
+					if (e.logId() - high - 1 > MAX_MISSING) { overflowed = true; } else { for (long id = high + 1; id < e.logId(); id++) { missing.put(id, now); } }
+					collect(e); high = e.logId();
+				}
+			} while (entries.size() == props.getBatchSize());
+
+			expire(now);
+		} catch (final DataAccessException e) {
+			log.warn("Cache Invalidation Poll Failed at Entry {} -> {}", high, e.getMessage());
+		}
+
+		deliver();
+
+		try {
+			prune(now);
+		} catch (final DataAccessException e) {
+			log.warn("Cache Invalidation Prune Failed -> {}", e.getMessage());
+		}
+	}
+
+	private List<Entry> read(final String sql, final Object... args) {
+		return jt.query(sql, ENTRY_MAPPER, args);
+	}
+
+	private void collect(final Entry entry) {
+		if (!Objects.equals(props.getNodeId(), entry.nodeId())) { pending.merge(entry.table(), entry.rows(), Long::sum); }
+	}
+
+	/* an id still missing after the gap timeout is taken as rolled back, but a late commit or too many gaps at once cannot be told apart from that, so every table is rebuilt */
+	private void expire(final long now) {
+
+		boolean lost = overflowed || missing.size() > MAX_MISSING;
+		if (missing.size() > MAX_MISSING) { missing.clear(); }
+
+		for (final Iterator<Long> it = missing.values().iterator(); it.hasNext(); ) {
+			if (now - it.next() > props.getGapTimeout().toNanos()) { it.remove(); lost = true; }
+		}
+
+		if (lost) { for (final InfoTable t : InfoTable.values()) { pending.putIfAbsent(t, 0L); rebuilds.add(t); } }
+		overflowed = false;
+	}
+
+	/* a table whose listeners failed stays pending and is delivered again on the next poll */
+	private void deliver() {
+
+		for (final Iterator<Map.Entry<InfoTable, Long>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+
+			final Map.Entry<InfoTable, Long> e = it.next();
+
+			try {
+				invalidate(e.getKey(), e.getValue(), rebuilds.contains(e.getKey()));
+				it.remove(); rebuilds.remove(e.getKey());
+			} catch (final RuntimeException ex) {
+				log.warn("Cache Invalidation Delivery Failed for {} -> {}", e.getKey(), ex.getMessage());
+			}
+		}
+	}
+
+	/* rows are only appended, so the local listeners catch up past their own watermarks or rebuild from scratch, the entity region goes in case anything else was touched */
+	private void invalidate(final InfoTable table, final long rows, final boolean rebuild) {
+
+		emf.getCache().evict(table == InfoTable.PUBLIC_INFO ? PublicInfo.class : SecretInfo.class);
+		publisher.publishEvent(new ResourceChangedEvent(table, rows, rebuild));
+
+		log.debug("Cache Invalidated for {} -> {} Rows Written on Other Nodes{}", table, rows, rebuild ? ", Rebuilt" : "");
+	}
+
+	private void prune(final long now) {
+
+		if (now - lastPrune < PRUNE_EVERY_NANOS) { return; }
+
+		lastPrune = now;
+		final Timestamp before = Timestamp.valueOf(LocalDateTime.now().minus(props.getRetention()));
+		tt.executeWithoutResult(s -> jt.update("DELETE FROM CACHE_INVALIDATION_LOG WHERE CREATE_DT < ?", before));
+	}
+
+	private long head() {
+		return Objects.requireNonNullElse(jt.queryForObject("SELECT MAX(LOG_ID) FROM CACHE_INVALIDATION_LOG", Long.class), 0L);
+	}
+}
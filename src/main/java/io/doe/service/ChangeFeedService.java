@@ -0,0 +1,34 @@
+package io.doe.service;
+
+import io.doe.domain.ChangeFeedEntry;
+import io.doe.domain.InfoTable;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ChangeFeedService
+ * @since 2026-10-18
+ */
+
+public interface ChangeFeedService {
+
+	Subscription subscribe(InfoTable table, @Nullable Integer afterId, @Nullable LocalDateTime since, Sink sink);
+	SseEmitter stream(InfoTable table, @Nullable Integer afterId, @Nullable LocalDateTime since);
+
+	@FunctionalInterface
+	interface Sink {
+
+		/* the event id only moves forward, a late row carries the id of the newest row sent before it */
+		void send(ChangeFeedEntry entry, int eventId) throws IOException;
+
+		/* the subscription is already cancelled when this is called */
+		default void fail(final Throwable cause) { /* nothing to close */ }
+	}
+
+	interface Subscription { void cancel(); }
+}
@@ -0,0 +1,345 @@
+package io.doe.service;
+
+import io.doe.config.AsyncConfig;
+import io.doe.config.BaseProperties;
+import io.doe.domain.ChangeFeedEntry;
+import io.doe.domain.InfoTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ChangeFeedServiceImpl
+ * @since 2026-10-18
+ */
+
+@Slf4j
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+	private static final RowMapper<ChangeFeedEntry> ENTRY_MAPPER = (rs, n) -> new ChangeFeedEntry(rs.getInt(1), rs.getString(2), rs.getObject(3, LocalDateTime.class));
+
+	private final JdbcTemplate jt;
+	private final AsyncTaskExecutor executor;
+	private final BaseProperties.Feed props;
+	private final BaseProperties.CatchUp catchUp;
+	private final Map<InfoTable, Set<Subscriber>> subscribers = new EnumMap<>(InfoTable.class);
+	private final Map<InfoTable, Head> heads = new EnumMap<>(InfoTable.class);
+
+	@Autowired
+	public ChangeFeedServiceImpl(final JdbcTemplate jt, @Qualifier(AsyncConfig.FEED_TASK_EXECUTOR) final AsyncTaskExecutor executor, final BaseProperties.Feed props, final BaseProperties.CatchUp catchUp) {
+
+		this.jt = jt; this.executor = executor; this.props = props; this.catchUp = catchUp;
+		for (final InfoTable t : InfoTable.values()) { subscribers.put(t, ConcurrentHashMap.newKeySet()); heads.put(t, new Head(t)); }
+	}
+
+	@Override
+	public Subscription subscribe(final InfoTable table, @Nullable final Integer afterId, @Nullable final LocalDateTime since, final Sink sink) {
+
+		final int cursor = Objects.nonNull(afterId) ? afterId : Objects.nonNull(since) ? idBefore(table, since) : maxId(table);
+		final Subscriber s = new Subscriber(table, cursor, sink);
+
+		subscribers.get(table).add(s);
+		s.signal();
+
+		return s;
+	}
+
+	/* every entry goes out as a created event whose id a reconnecting client hands back as Last-Event-ID */
+	@Override
+	public SseEmitter stream(final InfoTable table, @Nullable final Integer afterId, @Nullable final LocalDateTime since) {
+
+		final SseEmitter emitter = new SseEmitter(props.getTimeout().toMillis());
+		final Subscription subscription = subscribe(table, afterId, since, new Sink() {
+
+			@Override
+			public void send(final ChangeFeedEntry e, final int eventId) throws IOException {
+				emitter.send(SseEmitter.event().id(String.valueOf(eventId)).name("created").data(e, MediaType.APPLICATION_JSON));
+			}
+
+			@Override
+			public void fail(final Throwable cause) {
+				emitter.completeWithError(cause);
+			}
+		});
+
+		emitter.onCompletion(subscription::cancel);
+		emitter.onTimeout(() -> { subscription.cancel(); emitter.complete(); });
+		emitter.onError(t -> subscription.cancel());
+
+		return emitter;
+	}
+
+	/* the publishing writer only signals, the shared read runs on the feed executor */
+	@EventListener
+	public void onResourceChanged(final ResourceChangedEvent event) {
+		heads.get(event.table()).signal(event.rebuild());
+	}
+
+	private IdGaps track(final int high) {
+
+		final IdGaps head = new IdGaps(catchUp.getGapTimeout(), catchUp.getMaxGaps());
+		head.reset(high);
+
+		return head;
+	}
+
+	private List<ChangeFeedEntry> read(final InfoTable table, final int afterId, final int limit) {
+		return jt.query("SELECT RESOURCE_ID, CONTENTS, CREATE_DT FROM " + table.name() + " WHERE RESOURCE_ID > ? ORDER BY RESOURCE_ID LIMIT ?", ENTRY_MAPPER, afterId, limit);
+	}
+
+	private int maxId(final InfoTable table) {
+		return Objects.requireNonNullElse(jt.queryForObject("SELECT MAX(RESOURCE_ID) FROM " + table.name(), Integer.class), 0);
+	}
+
+	private int idBefore(final InfoTable table, final LocalDateTime since) {
+		return Objects.requireNonNullElse(jt.queryForObject("SELECT MAX(RESOURCE_ID) FROM " + table.name() + " WHERE CREATE_DT < ?", Integer.class, since), 0);
+	}
+
+	/* one shared read per change fans out to every subscriber, changes arriving while it runs fold into the next read, a burst larger than the buffers or a rebuild is left to each subscriber's own paging */
+	private final class Head {
+
+		private final InfoTable table;
+		private final AtomicInteger pending = new AtomicInteger();
+		private final AtomicBoolean rebuild = new AtomicBoolean();
+
+		@Nullable private IdGaps gaps;
+
+		private Head(final InfoTable table) {
+			this.table = table;
+		}
+
+		private void signal(final boolean rebuild) {
+
+			if (rebuild) { this.rebuild.set(true); }
+			if (pending.getAndIncrement() != 0) { return; }
+
+			try {
+				executor.execute(this::drain);
+			} catch (final RejectedExecutionException e) {
+				pending.set(0); this.rebuild.set(true); subscribers.get(table).forEach(Subscriber::overflow);
+				log.warn("Change Feed Fan-out Rejected for {} -> {}", table, e.getMessage());
+			}
+		}
+
+		private void drain() {
+
+			int missed = 1;
+
+			do {
+				try {
+					fanOut(rebuild.getAndSet(false));
+				} catch (final DataAccessException e) {
+					log.warn("Change Feed Fan-out Failed for {} -> {}", table, e.getMessage());
+				}
+
+				missed = pending.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void fanOut(final boolean reset) {
+
+			final Set<Subscriber> targets = subscribers.get(table);
+			if (targets.isEmpty()) { gaps = null; return; }
+
+			final FanOut read = new FanOut(table);
+
+			/* a restart tracks from the lowest subscriber cursor so ids still in flight below the head are looked up later, everyone pages past it anyway */
+			if (reset || Objects.isNull(gaps)) {
+				gaps = track(targets.stream().mapToInt(t -> t.cursor).min().orElseThrow()); read.overflowed = true;
+			}
+
+			try {
+				Objects.requireNonNull(gaps).catchUp(read, props.getBufferSize() + 1, System.nanoTime());
+			} catch (final DataAccessException e) {
+				read.overflowed = true; throw e;
+			} finally {
+				if (!read.late.isEmpty()) { targets.forEach(s -> s.offerLate(read.late)); }
+				if (read.overflowed) { targets.forEach(Subscriber::overflow); } else if (!read.entries.isEmpty()) { targets.forEach(s -> s.offer(read.entries)); }
+			}
+		}
+	}
+
+	/* gap rows are kept for late delivery, a tail longer than the buffers is only tracked by id since every subscriber pages over it anyway */
+	private final class FanOut implements IdGaps.Reader {
+
+		private final InfoTable table;
+		private final List<ChangeFeedEntry> late = new ArrayList<>();
+		private final List<ChangeFeedEntry> entries = new ArrayList<>();
+		private boolean overflowed;
+
+		private FanOut(final InfoTable table) {
+			this.table = table;
+		}
+
+		@Override
+		public List<Integer> between(final int from, final int to) {
+
+			final List<ChangeFeedEntry> found = jt.query("SELECT RESOURCE_ID, CONTENTS, CREATE_DT FROM " + table.name() + " WHERE RESOURCE_ID BETWEEN ? AND ? ORDER BY RESOURCE_ID", ENTRY_MAPPER, from, to);
+			late.addAll(found);
+
+			return found.stream().map(ChangeFeedEntry::resourceId).toList();
+		}
+
+		@Override
+		public List<Integer> after(final int id, final int limit) {
+
+			if (overflowed) { return jt.queryForList("SELECT RESOURCE_ID FROM " + table.name() + " WHERE RESOURCE_ID > ? ORDER BY RESOURCE_ID LIMIT ?", Integer.class, id, limit); }
+
+			final List<ChangeFeedEntry> found = read(table, id, limit);
+			entries.addAll(found); overflowed = found.size() == limit;
+
+			return found.stream().map(ChangeFeedEntry::resourceId).toList();
+		}
+	}
+
+	/* live and late entries go through bounded buffers, an overflowed or fresh subscriber pages from the table at its own pace */
+	private final class Subscriber implements Subscription {
+
+		private final InfoTable table;
+		private final Sink sink;
+		private final BlockingQueue<ChangeFeedEntry> buffer = new ArrayBlockingQueue<>(props.getBufferSize());
+		private final BlockingQueue<ChangeFeedEntry> late = new ArrayBlockingQueue<>(props.getBufferSize());
+		private final AtomicInteger rewind = new AtomicInteger(Integer.MAX_VALUE);
+		private final AtomicInteger pending = new AtomicInteger();
+
+		private volatile int cursor;
+		private volatile int eventId;
+		private volatile boolean paging = true;
+		private volatile boolean cancelled;
+
+		private Subscriber(final InfoTable table, final int cursor, final Sink sink) {
+			this.table = table; this.cursor = cursor; this.eventId = cursor; this.sink = sink;
+		}
+
+		private void offer(final List<ChangeFeedEntry> entries) {
+
+			if (!paging) {
+				for (final ChangeFeedEntry e : entries) {
+					if (!buffer.offer(e)) { overflow(); return; }
+				}
+			}
+
+			signal();
+		}
+
+		/* late rows that do not fit move the cursor back below the lowest of them, paging then sends them again along with rows already sent */
+		private void offerLate(final List<ChangeFeedEntry> entries) {
+
+			for (final ChangeFeedEntry e : entries) {
+				if (!late.offer(e)) { rewind.accumulateAndGet(e.resourceId() - 1, Math::min); }
+			}
+
+			signal();
+		}
+
+		private void overflow() {
+			paging = true; buffer.clear(); signal();
+		}
+
+		/* a rejected drain ends this subscriber only, the writer that published the change never sees it */
+		private void signal() {
+
+			if (pending.getAndIncrement() != 0) { return; }
+
+			try {
+				executor.execute(this::drain);
+			} catch (final RejectedExecutionException e) {
+				pending.set(0); cancel(); sink.fail(e);
+				log.warn("Change Feed Subscriber Rejected at {} {} -> {}", table, cursor, e.getMessage());
+			}
+		}
+
+		private void drain() {
+
+			int missed = 1;
+
+			try {
+				do {
+					if (cancelled) { return; }
+					deliverLate();
+					if (paging) { page(); }
+
+					ChangeFeedEntry e;
+					while (Objects.nonNull(e = buffer.poll())) { deliver(e); }
+
+					missed = pending.addAndGet(-missed);
+				} while (missed != 0);
+			} catch (final IOException | RuntimeException e) {
+				log.debug("Change Feed Subscriber Dropped at {} {} -> {}", table, cursor, e.getMessage());
+				cancel();
+			}
+		}
+
+		/* the flag flips before the final read so rows committed meanwhile land in the buffer, duplicates are skipped by cursor */
+		private void page() throws IOException {
+
+			List<ChangeFeedEntry> entries;
+
+			do {
+				paging = false;
+				entries = read(table, cursor, props.getPageSize());
+				for (final ChangeFeedEntry e : entries) { deliver(e); }
+			} while (!cancelled && entries.size() == props.getPageSize());
+		}
+
+		/* rows committed below the cursor are sent out of order and at least once, a subscriber that paged over one after its commit sees it twice, rows ahead of the cursor are left to paging */
+		private void deliverLate() throws IOException {
+
+			final int to = rewind.getAndSet(Integer.MAX_VALUE);
+			if (to < cursor) { cursor = to; paging = true; buffer.clear(); }
+
+			ChangeFeedEntry e;
+
+			while (Objects.nonNull(e = late.poll())) {
+				if (e.resourceId() <= cursor) { send(e); } else { paging = true; buffer.clear(); }
+			}
+		}
+
+		private void deliver(final ChangeFeedEntry e) throws IOException {
+
+			if (e.resourceId() <= cursor) { return; }
+
+			send(e);
+			cursor = e.resourceId();
+		}
+
+		/* the event id is the highest resource id sent so far, so a late row never moves a resuming client back */
+		private void send(final ChangeFeedEntry e) throws IOException {
+
+			eventId = Math.max(eventId, e.resourceId());
+			sink.send(e, eventId);
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true; subscribers.get(table).remove(this); buffer.clear(); late.clear();
+		}
+	}
+}
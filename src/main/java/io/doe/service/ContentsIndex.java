@@ -0,0 +1,170 @@
+package io.doe.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ContentsIndex
+ * @since 2026-10-18
+ */
+
+final class ContentsIndex {
+
+	private static final Pattern TEXT_SPLITTER = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final Pattern QUERY_SPLITTER = Pattern.compile("[^\\p{L}\\p{N}*]+");
+	private static final String WILDCARD = "*";
+	private static final int MAX_PREFIX_EXPANSION = 128;
+	private static final float K1 = 1.2f;
+	private static final float B = 0.75f;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final NavigableMap<String, Postings> terms = new TreeMap<>();
+
+	private int[] ids = new int[1024];
+	private short[] lengths = new short[1024];
+	private int size;
+	private long totalLength;
+	private int watermark;
+
+	record Hit(int resourceId, float score) { /* ranked match */ }
+
+	static final class Postings {
+
+		private int[] docs = new int[2];
+		private short[] tfs = new short[2];
+		private int size;
+
+		private void add(final int doc, final int tf) {
+
+			if (size == docs.length) { docs = Arrays.copyOf(docs, size << 1); tfs = Arrays.copyOf(tfs, size << 1); }
+			docs[size] = doc; tfs[size] = (short)Math.min(tf, Short.MAX_VALUE); size++;
+		}
+	}
+
+	static List<String> tokenize(final String text) {
+		return split(TEXT_SPLITTER, text);
+	}
+
+	void add(final int resourceId, final String contents) {
+
+		final List<String> tokens = tokenize(contents);
+		final Map<String, Integer> tf = HashMap.newHashMap(tokens.size());
+		tokens.forEach(t -> tf.merge(t, 1, Integer::sum));
+
+		lock.writeLock().lock();
+
+		try {
+			if (size == ids.length) { ids = Arrays.copyOf(ids, size << 1); lengths = Arrays.copyOf(lengths, size << 1); }
+
+			final int doc = size++;
+			ids[doc] = resourceId; lengths[doc] = (short)Math.min(tokens.size(), Short.MAX_VALUE);
+			totalLength += tokens.size(); watermark = Math.max(watermark, resourceId);
+
+			tf.forEach((term, n) -> terms.computeIfAbsent(term, k -> new Postings()).add(doc, n));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	int watermark() {
+
+		lock.readLock().lock();
+
+		try {
+			return watermark;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	int size() {
+
+		lock.readLock().lock();
+
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	List<Hit> search(final String query, final int k) {
+
+		final List<String> groups = split(QUERY_SPLITTER, query).stream().filter(g -> !g.replace(WILDCARD, "").isEmpty()).toList();
+		if (groups.isEmpty() || k <= 0) { return List.of(); }
+
+		lock.readLock().lock();
+
+		try {
+			if (size == 0) { return List.of(); }
+
+			final float avgLength = (float)totalLength / size;
+			final float[] scores = new float[size];
+			final int[] matched = new int[size];
+			final int[] seen = new int[size];
+
+			for (int g = 0; g < groups.size(); g++) {
+
+				final List<Postings> expansions = expand(groups.get(g));
+				if (expansions.isEmpty()) { return List.of(); }
+
+				for (final Postings p : expansions) {
+
+					final float idf = (float)Math.log(1 + (size - p.size + 0.5) / (p.size + 0.5));
+
+					for (int i = 0; i < p.size; i++) {
+						final int doc = p.docs[i];
+						final int tf = p.tfs[i];
+						scores[doc] += idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * lengths[doc] / avgLength));
+						if (seen[doc] != g + 1) { seen[doc] = g + 1; matched[doc]++; }
+					}
+				}
+			}
+
+			final Comparator<Hit> order = Comparator.comparingDouble(Hit::score).thenComparing(Hit::resourceId, Comparator.reverseOrder());
+			final PriorityQueue<Hit> top = new PriorityQueue<>(k + 1, order);
+
+			for (int doc = 0; doc < size; doc++) {
+				if (matched[doc] != groups.size()) { continue; }
+				top.offer(new Hit(ids[doc], scores[doc]));
+				if (top.size() > k) { top.poll(); }
+			}
+
+			final List<Hit> result = new ArrayList<>(top);
+			result.sort(order.reversed());
+
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private List<Postings> expand(final String group) {
+
+		final String term = group.replace(WILDCARD, "");
+
+		if (!group.endsWith(WILDCARD)) {
+			final Postings p = terms.get(term);
+			return p == null ? List.of() : List.of(p);
+		}
+
+		return terms.subMap(term, true, term + Character.MAX_VALUE, true).values().stream().limit(MAX_PREFIX_EXPANSION).toList();
+	}
+
+	private static List<String> split(final Pattern splitter, final String text) {
+		return Arrays.stream(splitter.split(text.toLowerCase(Locale.ROOT))).filter(t -> !t.isEmpty()).toList();
+	}
+}
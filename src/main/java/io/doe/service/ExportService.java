@@ -0,0 +1,28 @@
+package io.doe.service;
+
+import io.doe.domain.InfoFormat;
+import io.doe.domain.InfoTable;
+import io.doe.domain.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ExportService
+ * @since 2026-10-18
+ */
+
+public interface ExportService {
+
+	void export(InfoTable table, InfoFormat format, OutputStream target) throws IOException;
+	void export(InfoTable table, InfoFormat format, HttpServletResponse response) throws IOException;
+	Snapshot snapshot(InfoTable table, InfoFormat format) throws IOException;
+	void transfer(Snapshot snapshot, HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+	record Snapshot(Path path, long size, ResourceVersion version) { /* gzip file holding every row up to version */ }
+}
@@ -0,0 +1,248 @@
+package io.doe.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.doe.common.JsonCodecs;
+import io.doe.config.BaseProperties;
+import io.doe.domain.InfoFormat;
+import io.doe.domain.InfoRow;
+import io.doe.domain.InfoTable;
+import io.doe.domain.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ExportServiceImpl
+ * @since 2026-10-18
+ */
+
+@Slf4j
+@Service
+public class ExportServiceImpl implements ExportService {
+
+	private static final String CSV_HEADER = "RESOURCE_ID,CONTENTS,CREATE_DT\n";
+	private static final int KEPT_SNAPSHOTS = 2;
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final ObjectWriter writer;
+	private final DateTimeFormatter formatter;
+	private final ResourceService service;
+	private final BaseProperties.Export props;
+	private final Map<String, Lock> locks = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ExportServiceImpl(final JdbcTemplate jt, final PlatformTransactionManager tm, final JsonCodecs codecs, final ResourceService service,
+			final BaseProperties.Export props, final BaseProperties.Jackson jackson) {
+
+		this.jt = new JdbcTemplate(Objects.requireNonNull(jt.getDataSource())); this.jt.setFetchSize(props.getFetchSize());
+		this.tt = new TransactionTemplate(tm); this.tt.setReadOnly(true); this.tt.setTimeout((int)props.getTimeout().toSeconds());
+		this.writer = codecs.writer(InfoRow.class).withRootValueSeparator("\n").without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		this.formatter = DateTimeFormatter.ofPattern(jackson.getSerDateTimeFormat());
+		this.service = service; this.props = props;
+	}
+
+	@Override
+	public void export(final InfoTable table, final InfoFormat format, final OutputStream target) throws IOException {
+		write(table, format, null, target);
+	}
+
+	/* written on the request thread so the mvc async timeout and the bounded async pool never cut a long export short, the read itself runs under base.export.timeout */
+	@Override
+	public void export(final InfoTable table, final InfoFormat format, final HttpServletResponse response) throws IOException {
+
+		final String filename = table.name().toLowerCase(Locale.ROOT) + "." + format.extension();
+
+		response.setContentType(format.mediaType() + ";charset=UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+
+		export(table, format, response.getOutputStream());
+	}
+
+	/* one file per table, format and version, built once under a lock and then only ever read, the change count in the name catches rows committed below the max id */
+	@Override
+	public Snapshot snapshot(final InfoTable table, final InfoFormat format) throws IOException {
+
+		final ResourceVersion version = table == InfoTable.PUBLIC_INFO ? service.retrievePublicVersion() : service.retrieveSecretVersion();
+		final int upTo = Objects.requireNonNullElse(version.maxResourceId(), 0);
+		final String prefix = table.name().toLowerCase(Locale.ROOT) + "-";
+		final String suffix = "." + format.extension() + ".gz";
+		final Path file = props.getSnapshotDir().resolve(prefix + version.changes() + "." + upTo + suffix);
+
+		if (Files.exists(file)) { return new Snapshot(file, Files.size(file), version); }
+
+		final Lock lock = locks.computeIfAbsent(prefix + suffix, k -> new ReentrantLock());
+		lock.lock();
+
+		try {
+			if (Files.exists(file)) { return new Snapshot(file, Files.size(file), version); }
+
+			Files.createDirectories(props.getSnapshotDir());
+			final Path temp = Files.createTempFile(props.getSnapshotDir(), prefix, ".tmp");
+			final long start = System.nanoTime();
+
+			try (final OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), (int)props.getBufferSize().toBytes())) {
+				write(table, format, upTo, out);
+			} catch (final IOException | RuntimeException e) {
+				Files.deleteIfExists(temp); throw e;
+			}
+
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			log.info("Export Snapshot Written -> {} ({} bytes in {}ms)", file, Files.size(file), (System.nanoTime() - start) / 1_000_000);
+
+			prune(prefix, suffix);
+
+			return new Snapshot(file, Files.size(file), version);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/* the snapshot is handed to the connector as a file so the bytes go from page cache to socket, transferTo covers containers without sendfile */
+	@Override
+	public void transfer(final Snapshot snapshot, final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+
+		response.setContentType("application/gzip");
+		response.setContentLengthLong(snapshot.size());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(snapshot.path().getFileName().toString()).build().toString());
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, snapshot.path().toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, 0L);
+			request.setAttribute(SENDFILE_END, snapshot.size());
+			return;
+		}
+
+		try (final FileChannel source = FileChannel.open(snapshot.path(), StandardOpenOption.READ); final OutputStream out = response.getOutputStream()) {
+			final WritableByteChannel target = Channels.newChannel(out);
+			for (long position = 0; position < snapshot.size(); ) { position += source.transferTo(position, snapshot.size() - position, target); }
+		}
+	}
+
+	/* rows come off a cursor fetchSize at a time and leave through one fixed buffer, nothing is collected */
+	private void write(final InfoTable table, final InfoFormat format, @Nullable final Integer upTo, final OutputStream target) throws IOException {
+
+		final Writer out = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), (int)props.getBufferSize().toBytes());
+		final String sql = "SELECT RESOURCE_ID, CONTENTS, CREATE_DT FROM " + table.name() + (Objects.isNull(upTo) ? "" : " WHERE RESOURCE_ID <= ?") + " ORDER BY RESOURCE_ID";
+		final Object[] args = Objects.isNull(upTo) ? new Object[0] : new Object[] {upTo};
+
+		try {
+			if (format == InfoFormat.CSV) {
+				out.write(CSV_HEADER);
+				tt.executeWithoutResult(s -> jt.query(sql, rs -> { writeCsv(out, rs.getInt(1), rs.getString(2), rs.getObject(3, LocalDateTime.class)); }, args));
+			} else {
+				final long[] rows = {0};
+				try (final SequenceWriter sw = writer.writeValues(out)) {
+					tt.executeWithoutResult(s -> jt.query(sql, rs -> { writeJson(sw, new InfoRow(rs.getInt(1), rs.getString(2), rs.getObject(3, LocalDateTime.class))); rows[0]++; }, args));
+				}
+				if (rows[0] > 0) { out.write('\n'); }
+			}
+		} catch (final UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		out.flush();
+	}
+
+	private void writeCsv(final Writer out, final int resourceId, @Nullable final String contents, @Nullable final LocalDateTime createDt) {
+
+		try {
+			out.write(Integer.toString(resourceId)); out.write(',');
+			if (Objects.nonNull(contents)) { quote(out, contents); }
+			out.write(',');
+			if (Objects.nonNull(createDt)) { out.write(formatter.format(createDt)); }
+			out.write('\n');
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void writeJson(final SequenceWriter sw, final InfoRow row) {
+
+		try {
+			sw.write(row);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/* RFC 4180, a field is quoted only when it holds a delimiter, a quote or a line break */
+	private static void quote(final Writer out, final String value) throws IOException {
+
+		if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) { out.write(value); return; }
+
+		out.write('"'); out.write(value.replace("\"", "\"\"")); out.write('"');
+	}
+
+	/* the newest previous version stays so a download that already resolved its path can still finish */
+	private void prune(final String prefix, final String suffix) throws IOException {
+
+		final List<Path> snapshots = new ArrayList<>();
+
+		try (final DirectoryStream<Path> ds = Files.newDirectoryStream(props.getSnapshotDir(), prefix + "*" + suffix)) {
+			ds.forEach(snapshots::add);
+		}
+
+		snapshots.sort(Comparator.comparingLong((Path p) -> version(p, prefix, suffix)).reversed());
+
+		for (final Path p : snapshots.subList(Math.min(KEPT_SNAPSHOTS, snapshots.size()), snapshots.size())) { Files.deleteIfExists(p); }
+	}
+
+	/* rows are never deleted, so the row count alone orders the versions */
+	private static long version(final Path path, final String prefix, final String suffix) {
+
+		final String name = path.getFileName().toString();
+		final String version = name.substring(prefix.length(), name.length() - suffix.length());
+		final int dot = version.indexOf('.');
+
+		try {
+			return dot < 0 ? -1 : Long.parseLong(version.substring(0, dot));
+		} catch (final NumberFormatException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package io.doe.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see IdGaps
+ * @since 2026-10-18
+ */
+
+final class IdGaps {
+
+	private final long timeoutNanos;
+	private final int maxGaps;
+	private final List<Gap> gaps = new ArrayList<>();
+
+	private int high;
+
+	record Gap(int from, int to, long since) { /* ids skipped past the high mark, still expected to commit */ }
+
+	/* each read hands its rows to the caller's own target and answers the ids it saw, in id order */
+	interface Reader {
+
+		List<Integer> between(int from, int to);
+
+		List<Integer> after(int id, int limit);
+	}
+
+	IdGaps(final Duration timeout, final int maxGaps) {
+		this.timeoutNanos = timeout.toNanos(); this.maxGaps = maxGaps;
+	}
+
+	int high() {
+		return high;
+	}
+
+	List<Gap> open() {
+		return List.copyOf(gaps);
+	}
+
+	/* identity ids are handed out at insert time but become visible at commit time, so every id jumped over here may still show up */
+	void advance(final int id, final long now) {
+
+		if (id <= high) { return; }
+		if (id > high + 1) { gaps.add(new Gap(high + 1, id - 1, now)); }
+		high = id;
+	}
+
+	/* the ids a re-query found inside a gap, in id order, leave only the ranges between them open */
+	void fill(final Gap gap, final List<Integer> found) {
+
+		final int at = gaps.indexOf(gap);
+		if (at < 0 || found.isEmpty()) { return; }
+
+		final List<Gap> rest = new ArrayList<>();
+		int from = gap.from();
+
+		for (final int id : found) {
+			if (id > from) { rest.add(new Gap(from, id - 1, gap.since())); }
+			from = Math.max(from, id + 1);
+		}
+
+		if (from <= gap.to()) { rest.add(new Gap(from, gap.to(), gap.since())); }
+		gaps.remove(at); gaps.addAll(at, rest);
+	}
+
+	/* a gap still open after the timeout is taken as rolled back, the oldest are given up first when there are too many to look up */
+	int expire(final long now) {
+
+		int dropped = 0;
+
+		for (final Iterator<Gap> it = gaps.iterator(); it.hasNext(); ) {
+			if (now - it.next().since() > timeoutNanos) { it.remove(); dropped++; }
+		}
+
+		while (gaps.size() > maxGaps) { gaps.removeFirst(); dropped++; }
+
+		return dropped;
+	}
+
+	/* the open gaps are looked up again first, then rows past the high mark are paged in until a short page, each step is applied as soon as its read returns */
+	int catchUp(final Reader reader, final int batch, final long now) {
+
+		for (final Gap g : open()) { fill(g, reader.between(g.from(), g.to())); }
+
+		List<Integer> ids;
+
+		do {
+			ids = reader.after(high, batch);
+			for (final int id : ids) { advance(id, now); }
+		} while (ids.size() == batch);
+
+		return expire(now);
+	}
+
+	void reset(final int high) {
+		gaps.clear(); this.high = high;
+	}
+}
@@ -0,0 +1,146 @@
+package io.doe.service;
+
+import io.doe.config.BaseProperties;
+import io.doe.domain.InfoTable;
+import io.doe.domain.ResourceVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoSnapshotStore
+ * @since 2026-10-18
+ */
+
+@Slf4j
+@Service
+public class InfoSnapshotStore implements InitializingBean {
+
+	private static final int REFRESH_BATCH = 10_000;
+	private static final Snapshot EMPTY = new Snapshot(List.of(), new ResourceVersion(null, null, 0));
+
+	private final JdbcTemplate jt;
+	private final boolean enabled;
+	private final BaseProperties.CatchUp props;
+	private final Map<InfoTable, IdGaps> gaps = new EnumMap<>(InfoTable.class);
+
+	private volatile Snapshot publicInfo = EMPTY;
+	private volatile Snapshot secretInfo = EMPTY;
+
+	record Snapshot(List<String> contents, ResourceVersion version) { /* immutable, replaced as a whole */ }
+
+	@Autowired
+	public InfoSnapshotStore(final JdbcTemplate jt, final BaseProperties.Snapshot snapshot, final BaseProperties.CatchUp props) {
+
+		this.jt = jt; this.enabled = snapshot.isEnabled(); this.props = props;
+		for (final InfoTable t : InfoTable.values()) { gaps.put(t, new IdGaps(props.getGapTimeout(), props.getMaxGaps())); }
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (enabled) { for (final InfoTable t : InfoTable.values()) { refresh(t, false); } }
+	}
+
+	@EventListener
+	public void onResourceChanged(final ResourceChangedEvent event) {
+		if (enabled) { refresh(event.table(), event.rebuild()); }
+	}
+
+	/* the bean always exists and the flag is read here, a bean condition would be settled once at build time under spring aot */
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	Snapshot get(final InfoTable table) {
+		return table == InfoTable.PUBLIC_INFO ? publicInfo : secretInfo;
+	}
+
+	/* rows are only ever appended, so a refresh reads the id gaps still open and past the current watermark, then publishes a new snapshot in one volatile write,
+	   a rebuild reads the whole table into a fresh one and the old snapshot keeps serving until it is done, a failed refresh leaves the next one to rebuild */
+	private synchronized void refresh(final InfoTable table, final boolean rebuild) {
+
+		final IdGaps tracked = rebuild ? null : gaps.remove(table);
+		final boolean full = Objects.isNull(tracked);
+		final Snapshot current = full ? EMPTY : get(table);
+		final IdGaps open = full ? new IdGaps(props.getGapTimeout(), props.getMaxGaps()) : tracked;
+		final Delta delta = new Delta(table, current.version());
+
+		try {
+			open.catchUp(delta, REFRESH_BATCH, System.nanoTime());
+		} catch (final DataAccessException e) {
+			log.warn("Snapshot Refresh Failed for {} -> {}", table, e.getMessage()); throw e;
+		}
+
+		gaps.put(table, open);
+
+		if (delta.ids.isEmpty() && !full) { return; }
+
+		final Snapshot next = new Snapshot(Stream.concat(current.contents().stream(), delta.contents.stream()).toList(), new ResourceVersion(delta.maxResourceId, delta.maxCreateDt, current.version().changes() + delta.ids.size()));
+		if (table == InfoTable.PUBLIC_INFO) { publicInfo = next; } else { secretInfo = next; }
+
+		log.debug("Snapshot Refreshed for {} -> {} Rows Added, {} Contents", table, delta.ids.size(), next.contents().size());
+	}
+
+	private final class Delta implements IdGaps.Reader, RowCallbackHandler {
+
+		private final InfoTable table;
+		private final List<String> contents = new ArrayList<>();
+		private final List<Integer> ids = new ArrayList<>();
+		private int maxResourceId;
+		@Nullable private LocalDateTime maxCreateDt;
+
+		private Delta(final InfoTable table, final ResourceVersion from) {
+			this.table = table; this.maxResourceId = Objects.requireNonNullElse(from.maxResourceId(), 0); this.maxCreateDt = from.maxCreateDt();
+		}
+
+		@Override
+		public List<Integer> between(final int from, final int to) {
+			return read("SELECT RESOURCE_ID, CONTENTS, CREATE_DT FROM " + table.name() + " WHERE RESOURCE_ID BETWEEN ? AND ? ORDER BY RESOURCE_ID", from, to);
+		}
+
+		@Override
+		public List<Integer> after(final int id, final int limit) {
+			return read("SELECT RESOURCE_ID, CONTENTS, CREATE_DT FROM " + table.name() + " WHERE RESOURCE_ID > ? ORDER BY RESOURCE_ID LIMIT ?", id, limit);
+		}
+
+		private List<Integer> read(final String sql, final Object... args) {
+
+			final int from = ids.size();
+			jt.query(sql, this, args);
+
+			return List.copyOf(ids.subList(from, ids.size()));
+		}
+
+		@Override
+		public void processRow(final ResultSet rs) throws SQLException {
+
+			final String c = rs.getString(2);
+			final LocalDateTime dt = rs.getObject(3, LocalDateTime.class);
+
+			if (StringUtils.hasText(c)) { contents.add(c); }
+			if (Objects.nonNull(dt) && (Objects.isNull(maxCreateDt) || dt.isAfter(maxCreateDt))) { maxCreateDt = dt; }
+
+			final int id = rs.getInt(1);
+			ids.add(id); maxResourceId = Math.max(maxResourceId, id);
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package io.doe.service;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MultipartStream
+ * @since 2026-10-18
+ */
+
+final class MultipartStream {
+
+	private static final byte CR = '\r';
+	private static final byte LF = '\n';
+	private static final byte DASH = '-';
+	private static final byte[] CRLF = {CR, LF};
+	private static final byte[] CRLF_CRLF = {CR, LF, CR, LF};
+
+	private final InputStream in;
+	private final byte[] delimiter;
+	private final byte[] buf;
+
+	private int head;
+	private int tail;
+	private boolean eof;
+	private boolean finished;
+	@Nullable private PartStream current;
+
+	record Part(@Nullable String name, @Nullable String filename, @Nullable String contentType, InputStream body) { /* one body part, valid until the next call */ }
+
+	static class MalformedException extends IOException {
+
+		MalformedException(final String message) { super(message); }
+	}
+
+	/* the buffer starts with a virtual CRLF so the first boundary line matches the same delimiter as the others */
+	MultipartStream(final InputStream in, final String boundary, final int bufferSize) {
+
+		this.in = in;
+		this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+		this.buf = new byte[Math.max(bufferSize, delimiter.length * 4)];
+		this.buf[0] = CR; this.buf[1] = LF; this.tail = 2;
+	}
+
+	/* RFC 2046 allows the boundary parameter to be quoted */
+	static String boundary(final MediaType type) throws MalformedException {
+
+		final String boundary = StringUtils.trimTrailingCharacter(StringUtils.trimLeadingCharacter(Objects.toString(type.getParameter("boundary"), ""), '"'), '"');
+		if (!StringUtils.hasText(boundary)) { throw new MalformedException("Multipart boundary is missing"); }
+
+		return boundary;
+	}
+
+	/* skips the preamble or whatever is left of the previous part, null after the closing boundary */
+	@Nullable
+	Part next() throws IOException {
+
+		if (finished) { return null; }
+		if (Objects.isNull(current)) { current = new PartStream(); }
+
+		current.skipRest();
+		if (!fill(2)) { throw new MalformedException("Multipart stream ended without a closing boundary"); }
+
+		if (buf[head] == DASH && buf[head + 1] == DASH) { finished = true; return null; }
+
+		final int lineEnd = find(CRLF);
+		if (lineEnd < 0) { throw new MalformedException("Boundary line is not terminated"); }
+		head = lineEnd;
+
+		final int headersEnd = find(CRLF_CRLF);
+		if (headersEnd < 0) { throw new MalformedException("Part headers exceed " + buf.length + " bytes"); }
+		final String headers = new String(buf, head + 2, Math.max(headersEnd - head - 2, 0), StandardCharsets.UTF_8);
+		head = headersEnd + 4;
+
+		String disposition = null;
+		String contentType = null;
+
+		for (final String line : headers.split("\r\n")) {
+			final int colon = line.indexOf(':');
+			if (colon < 0) { continue; }
+			final String name = line.substring(0, colon).strip();
+			if (HttpHeaders.CONTENT_DISPOSITION.equalsIgnoreCase(name)) { disposition = line.substring(colon + 1).strip(); }
+			if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) { contentType = line.substring(colon + 1).strip(); }
+		}
+
+		final ContentDisposition cd = Objects.isNull(disposition) ? ContentDisposition.empty() : ContentDisposition.parse(disposition);
+		current = new PartStream();
+
+		return new Part(cd.getName(), cd.getFilename(), contentType, current);
+	}
+
+	/* keeps reading until the pattern shows up after the head, the input ends or the buffer is full */
+	private int find(final byte[] pattern) throws IOException {
+
+		while (true) {
+			final int at = indexOf(pattern, head);
+			if (at >= 0 || eof || (head == 0 && tail == buf.length)) { return at; }
+			fill(tail - head + 1);
+		}
+	}
+
+	private int indexOf(final byte[] pattern, final int from) {
+
+		final byte first = pattern[0];
+		final int last = tail - pattern.length;
+
+		for (int i = from; i <= last; i++) {
+			if (buf[i] != first) { continue; }
+			int j = 1;
+			while (j < pattern.length && buf[i + j] == pattern[j]) { j++; }
+			if (j == pattern.length) { return i; }
+		}
+
+		return -1;
+	}
+
+	/* moves the unread bytes to the front and reads until at least n of them are buffered or the input ends */
+	private boolean fill(final int n) throws IOException {
+
+		if (tail - head >= n) { return true; }
+
+		if (head > 0) { System.arraycopy(buf, head, buf, 0, tail - head); tail -= head; head = 0; }
+
+		while (tail - head < n && !eof && tail < buf.length) {
+			final int r = in.read(buf, tail, buf.length - tail);
+			if (r < 0) { eof = true; } else { tail += r; }
+		}
+
+		return tail - head >= n;
+	}
+
+	private final class PartStream extends InputStream {
+
+		private final byte[] one = new byte[1];
+		private boolean done;
+
+		@Override
+		public int read() throws IOException {
+			return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+		}
+
+		/* everything before a possible delimiter prefix at the end of the buffer is safe to hand out */
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+
+			if (done) { return -1; }
+			if (len == 0) { return 0; }
+
+			while (true) {
+				fill(delimiter.length);
+
+				final int at = indexOf(delimiter, head);
+				final int available = at >= 0 ? at - head : Math.max(tail - head - delimiter.length + 1, 0);
+
+				if (available > 0) {
+					final int n = Math.min(available, len);
+					System.arraycopy(buf, head, b, off, n);
+					head += n;
+					return n;
+				}
+
+				if (at >= 0) { head = at + delimiter.length; done = true; return -1; }
+				if (eof) { throw new MalformedException("Multipart stream ended inside a part"); }
+
+				fill(tail - head + 1);
+			}
+		}
+
+		@Override
+		public long skip(final long n) throws IOException {
+
+			long skipped = 0;
+
+			while (skipped < n && !done) {
+				final int at = indexOf(delimiter, head);
+				if (at >= 0) { skipped += at - head; head = at + delimiter.length; done = true; break; }
+				final int available = Math.max(tail - head - delimiter.length + 1, 0);
+				if (available > 0) { head += available; skipped += available; continue; }
+				if (eof) { throw new MalformedException("Multipart stream ended inside a part"); }
+				fill(tail - head + 1);
+			}
+
+			return skipped;
+		}
+
+		private void skipRest() throws IOException {
+			while (!done) { skip(Long.MAX_VALUE); }
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package io.doe.service;
+
+import io.doe.domain.InfoTable;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ResourceChangedEvent
+ * @since 2026-10-18
+ */
+
+public record ResourceChangedEvent(InfoTable table, long rows, boolean rebuild) {
+
+	/* published after rows are committed, listeners throw when they could not catch up so the publisher can retry */
+	public ResourceChangedEvent(final InfoTable table, final long rows) {
+		this(table, rows, false);
+	}
+}
@@ -1,6 +1,12 @@
 package io.doe.service;
 
+import io.doe.domain.InfoRow;
+import io.doe.domain.MultiGetRes;
+import io.doe.domain.ResourceVersion;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author <loonabus@gmail.com>
@@ -12,4 +18,12 @@ import java.util.List;
 public interface ResourceService {
 	List<String> retrievePublicInfo();
 	List<String> retrieveSecretInfo();
+	List<InfoRow> retrievePublicRows(Set<InfoRow.Field> fields);
+	List<InfoRow> retrieveSecretRows(Set<InfoRow.Field> fields);
+	InfoRow retrievePublicRow(int resourceId);
+	InfoRow retrieveSecretRow(int resourceId);
+	MultiGetRes retrievePublicRowsByIds(Collection<Integer> resourceIds);
+	MultiGetRes retrieveSecretRowsByIds(Collection<Integer> resourceIds);
+	ResourceVersion retrievePublicVersion();
+	ResourceVersion retrieveSecretVersion();
 }
\ No newline at end of file
@@ -1,16 +1,32 @@
 package io.doe.service;
 
+import io.doe.common.MessageKey;
+import io.doe.common.MessageResolver;
+import io.doe.common.ResourceNotFoundException;
+import io.doe.domain.InfoRow;
+import io.doe.domain.InfoTable;
+import io.doe.domain.MultiGetRes;
 import io.doe.domain.PublicInfo;
+import io.doe.domain.ResourceVersion;
 import io.doe.domain.SecretInfo;
 import io.doe.persistence.PublicInfoRepo;
 import io.doe.persistence.SecretInfoRepo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author <loonabus@gmail.com>
@@ -23,24 +39,102 @@ import java.util.List;
 @Service
 public class ResourceServiceImpl implements ResourceService, BaseService {
 
+	private static final MessageKey RESOURCE_NOT_FOUND = MessageKey.service("ResourceNotFound");
+
 	private final PublicInfoRepo pr;
 	private final SecretInfoRepo sr;
-	private final MessageSourceAccessor accessor;
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final MessageResolver resolver;
+	@Nullable private final InfoSnapshotStore snapshots;
 
 	@Autowired
-	public ResourceServiceImpl(final PublicInfoRepo pr, final SecretInfoRepo sr, final MessageSourceAccessor accessor) {
-		this.pr = pr; this.sr = sr; this.accessor = accessor;
+	public ResourceServiceImpl(final PublicInfoRepo pr, final SecretInfoRepo sr, final JdbcTemplate jt, final PlatformTransactionManager tm, final MessageResolver resolver, final InfoSnapshotStore snapshots) {
+		this.pr = pr; this.sr = sr; this.jt = jt; this.tt = new TransactionTemplate(tm); this.resolver = resolver; this.snapshots = snapshots.isEnabled() ? snapshots : null;
+		this.tt.setReadOnly(true);
 	}
 
 	@Override
 	public List<String> retrievePublicInfo() {
-		return pr.findAll().stream().map(PublicInfo::getContents).filter(StringUtils::hasText).toList();
+		return Objects.nonNull(snapshots) ? snapshots.get(InfoTable.PUBLIC_INFO).contents() : pr.findAll().stream().map(PublicInfo::getContents).filter(StringUtils::hasText).toList();
 	}
 
 	@Override
 	public List<String> retrieveSecretInfo() {
-		return sr.findAll().stream().map(SecretInfo::getContents).filter(StringUtils::hasText).toList();
+		return Objects.nonNull(snapshots) ? snapshots.get(InfoTable.SECRET_INFO).contents() : sr.findAll().stream().map(SecretInfo::getContents).filter(StringUtils::hasText).toList();
+	}
+
+	@Override
+	public List<InfoRow> retrievePublicRows(final Set<InfoRow.Field> fields) {
+		return retrieveRows(InfoTable.PUBLIC_INFO, fields);
+	}
+
+	@Override
+	public List<InfoRow> retrieveSecretRows(final Set<InfoRow.Field> fields) {
+		return retrieveRows(InfoTable.SECRET_INFO, fields);
+	}
+
+	/* only the requested columns are selected, rows without contents are skipped the same way the contents listing does */
+	private List<InfoRow> retrieveRows(final InfoTable table, final Set<InfoRow.Field> fields) {
+
+		final boolean id = fields.contains(InfoRow.Field.RESOURCE_ID);
+		final boolean contents = fields.contains(InfoRow.Field.CONTENTS);
+		final boolean createDt = fields.contains(InfoRow.Field.CREATE_DT);
+
+		final String sql = "SELECT " + fields.stream().map(InfoRow.Field::column).collect(Collectors.joining(", ")) + " FROM " + table.name()
+				+ " WHERE CONTENTS IS NOT NULL AND TRIM(CONTENTS) <> '' ORDER BY RESOURCE_ID";
+
+		return Objects.requireNonNull(tt.execute(s -> jt.query(sql, (rs, n) -> new InfoRow(id ? rs.getInt(InfoRow.Field.RESOURCE_ID.column()) : null,
+				contents ? rs.getString(InfoRow.Field.CONTENTS.column()) : null, createDt ? rs.getObject(InfoRow.Field.CREATE_DT.column(), LocalDateTime.class) : null))));
+	}
+
+	@Override
+	public InfoRow retrievePublicRow(final int resourceId) {
+		return Objects.requireNonNull(tt.execute(s -> pr.findById(resourceId).map(ResourceServiceImpl::toRow)))
+				.orElseThrow(() -> new ResourceNotFoundException(retrieveMessageFrom(RESOURCE_NOT_FOUND, InfoTable.PUBLIC_INFO, String.valueOf(resourceId))));
+	}
+
+	@Override
+	public InfoRow retrieveSecretRow(final int resourceId) {
+		return Objects.requireNonNull(tt.execute(s -> sr.findById(resourceId).map(ResourceServiceImpl::toRow)))
+				.orElseThrow(() -> new ResourceNotFoundException(retrieveMessageFrom(RESOURCE_NOT_FOUND, InfoTable.SECRET_INFO, String.valueOf(resourceId))));
+	}
+
+	@Override
+	public MultiGetRes retrievePublicRowsByIds(final Collection<Integer> resourceIds) {
+		return toRes(resourceIds, Objects.requireNonNull(tt.execute(s -> pr.findAllByResourceIdChunked(resourceIds).stream().map(ResourceServiceImpl::toRow).toList())));
+	}
+
+	@Override
+	public MultiGetRes retrieveSecretRowsByIds(final Collection<Integer> resourceIds) {
+		return toRes(resourceIds, Objects.requireNonNull(tt.execute(s -> sr.findAllByResourceIdChunked(resourceIds).stream().map(ResourceServiceImpl::toRow).toList())));
+	}
+
+	private static InfoRow toRow(final PublicInfo info) {
+		return new InfoRow(info.getResourceId(), info.getContents(), info.getCreateDt());
+	}
+
+	private static InfoRow toRow(final SecretInfo info) {
+		return new InfoRow(info.getResourceId(), info.getContents(), info.getCreateDt());
+	}
+
+	private static MultiGetRes toRes(final Collection<Integer> resourceIds, final List<InfoRow> rows) {
+
+		final Set<Integer> missing = new LinkedHashSet<>(resourceIds);
+		rows.stream().map(InfoRow::resourceId).forEach(missing::remove);
+
+		return new MultiGetRes(rows, List.copyOf(missing));
+	}
+
+	@Override
+	public ResourceVersion retrievePublicVersion() {
+		return Objects.nonNull(snapshots) ? snapshots.get(InfoTable.PUBLIC_INFO).version() : pr.findVersion();
+	}
+
+	@Override
+	public ResourceVersion retrieveSecretVersion() {
+		return Objects.nonNull(snapshots) ? snapshots.get(InfoTable.SECRET_INFO).version() : sr.findVersion();
 	}
 
-	@Override public MessageSourceAccessor retrieveAccessor() { return accessor; }
+	@Override public MessageResolver retrieveResolver() { return resolver; }
 }
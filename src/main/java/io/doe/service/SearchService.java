@@ -0,0 +1,16 @@
+package io.doe.service;
+
+import io.doe.domain.SearchHit;
+
+import java.util.List;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see SearchService
+ * @since 2026-10-18
+ */
+
+public interface SearchService {
+	List<SearchHit> searchPublicInfo(String query, int k);
+}
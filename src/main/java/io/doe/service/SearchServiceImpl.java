@@ -0,0 +1,131 @@
+package io.doe.service;
+
+import io.doe.config.BaseProperties;
+import io.doe.domain.InfoTable;
+import io.doe.domain.PublicInfo;
+import io.doe.domain.SearchHit;
+import io.doe.persistence.PublicInfoRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see SearchServiceImpl
+ * @since 2026-10-18
+ */
+
+@Slf4j
+@Service
+public class SearchServiceImpl implements SearchService {
+
+	private static final int CATCH_UP_BATCH = 10_000;
+
+	private final PublicInfoRepo pr;
+	private final TransactionTemplate tt;
+	private final BaseProperties.CatchUp props;
+
+	private IdGaps gaps;
+	private volatile ContentsIndex index = new ContentsIndex();
+
+	@Autowired
+	public SearchServiceImpl(final PublicInfoRepo pr, final PlatformTransactionManager tm, final BaseProperties.CatchUp props) {
+		this.pr = pr; this.tt = new TransactionTemplate(tm); this.props = props; this.gaps = new IdGaps(props.getGapTimeout(), props.getMaxGaps());
+	}
+
+	@EventListener(ApplicationStartedEvent.class)
+	public void buildIndex() {
+
+		final long start = System.nanoTime();
+		catchUp(false);
+
+		log.info("Search Index Built -> {} Documents in {}ms", index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+	}
+
+	@EventListener
+	public void onResourceChanged(final ResourceChangedEvent event) {
+		if (event.table() == InfoTable.PUBLIC_INFO) { catchUp(event.rebuild()); }
+	}
+
+	@Override
+	public List<SearchHit> searchPublicInfo(final String query, final int k) {
+
+		final List<ContentsIndex.Hit> hits = index.search(query, k);
+		if (hits.isEmpty()) { return List.of(); }
+
+		final Map<Integer, String> contents = pr.findAllById(hits.stream().map(ContentsIndex.Hit::resourceId).toList()).stream()
+				.collect(Collectors.toMap(PublicInfo::getResourceId, PublicInfo::getContents, (a, b) -> a));
+
+		return hits.stream().filter(h -> Objects.nonNull(contents.get(h.resourceId())))
+				.map(h -> new SearchHit(h.resourceId(), contents.get(h.resourceId()), h.score())).toList();
+	}
+
+	/* a rebuild fills a fresh index while the current one keeps serving, then swaps it in */
+	private synchronized void catchUp(final boolean rebuild) {
+
+		if (!rebuild) { catchUp(index, gaps); return; }
+
+		final ContentsIndex fresh = new ContentsIndex();
+		final IdGaps freshGaps = new IdGaps(props.getGapTimeout(), props.getMaxGaps());
+
+		catchUp(fresh, freshGaps);
+		index = fresh; gaps = freshGaps;
+	}
+
+	/* primary-bound read-write transaction so that rows just committed are never missed through replica lag, ids skipped by the scan are looked up again on later catch-ups */
+	private void catchUp(final ContentsIndex target, final IdGaps open) {
+
+		final int dropped;
+
+		try {
+			dropped = open.catchUp(new IndexReader(target), CATCH_UP_BATCH, System.nanoTime());
+		} catch (final DataAccessException e) {
+			log.warn("Search Index Catch-up Stopped at Resource {} -> {}", open.high(), e.getMessage()); throw e;
+		}
+
+		if (dropped > 0) { log.debug("Search Index Gave Up {} Id Gaps below Resource {}", dropped, open.high()); }
+	}
+
+	private static List<Integer> index(final ContentsIndex target, final List<PublicInfo> found) {
+
+		found.forEach(i -> add(target, i));
+		return found.stream().map(PublicInfo::getResourceId).toList();
+	}
+
+	private static void add(final ContentsIndex target, final PublicInfo info) {
+		if (StringUtils.hasText(info.getContents())) { target.add(info.getResourceId(), info.getContents()); }
+	}
+
+	private final class IndexReader implements IdGaps.Reader {
+
+		private final ContentsIndex target;
+
+		private IndexReader(final ContentsIndex target) {
+			this.target = target;
+		}
+
+		@Override
+		public List<Integer> between(final int from, final int to) {
+			return index(target, Objects.requireNonNull(tt.execute(s -> pr.findByResourceIdBetweenOrderByResourceIdAsc(from, to))));
+		}
+
+		@Override
+		public List<Integer> after(final int id, final int limit) {
+			return index(target, Objects.requireNonNull(tt.execute(s -> pr.findByResourceIdGreaterThanOrderByResourceIdAsc(id, Limit.of(limit)))));
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package io.doe.web;
+
+import io.doe.domain.BaseRes;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see CompactResponseAdvice
+ * @since 2026-10-18
+ */
+
+@RestControllerAdvice
+public class CompactResponseAdvice implements ResponseBodyAdvice<Object> {
+
+	public static final String ENVELOPE_HEADER = "X-Envelope";
+	public static final String ENVELOPE_PARAMETER = "envelope";
+	public static final String NO_ENVELOPE = "none";
+
+	@Override
+	public boolean supports(final MethodParameter returnType, final Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	/* a successful BaseRes is written as its data alone when the client asks for no envelope, errors keep code and message */
+	@Nullable @Override
+	public Object beforeBodyWrite(@Nullable final Object body, final MethodParameter returnType, final MediaType contentType,
+			final Class<? extends HttpMessageConverter<?>> converterType, final ServerHttpRequest request, final ServerHttpResponse response) {
+
+		if (!(body instanceof BaseRes<?> res) || !(request instanceof ServletServerHttpRequest sr) || !(response instanceof ServletServerHttpResponse ss)) { return body; }
+		if (ss.getServletResponse().getStatus() >= 300) { return body; }
+
+		vary(ss.getServletResponse());
+
+		final String requested = sr.getServletRequest().getParameter(ENVELOPE_PARAMETER);
+		return NO_ENVELOPE.equalsIgnoreCase(requested) || NO_ENVELOPE.equalsIgnoreCase(sr.getServletRequest().getHeader(ENVELOPE_HEADER)) ? res.getData() : body;
+	}
+
+	/* any successful envelope can be dropped by the header, a 304 never reaches the advice so conditional handlers add it themselves */
+	public static void vary(final HttpServletResponse response) {
+		if (response.getHeaders(HttpHeaders.VARY).stream().noneMatch(v -> v.contains(ENVELOPE_HEADER))) { response.addHeader(HttpHeaders.VARY, ENVELOPE_HEADER); }
+	}
+}
@@ -1,14 +1,53 @@
 package io.doe.web;
 
+import io.doe.config.AsyncConfig;
 import io.doe.domain.BaseRes;
+import io.doe.domain.BulkIngestRes;
+import io.doe.domain.InfoFormat;
+import io.doe.domain.InfoRow;
+import io.doe.domain.InfoTable;
+import io.doe.domain.MultiGetReq;
+import io.doe.domain.MultiGetRes;
+import io.doe.domain.ResourceVersion;
+import io.doe.domain.SearchHit;
+import io.doe.service.BulkIngestService;
+import io.doe.service.ChangeFeedService;
+import io.doe.service.ExportService;
 import io.doe.service.ResourceService;
+import io.doe.service.SearchService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author <loonabus@gmail.com>
@@ -22,20 +61,149 @@ import java.util.List;
 @RequestMapping("/rest/v1/resource")
 public class ResourceServerController {
 
+	private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
 	private final ResourceService service;
+	private final BulkIngestService bulk;
+	private final SearchService search;
+	private final ChangeFeedService feed;
+	private final ExportService exports;
+	private final AsyncTaskExecutor executor;
 
 	@Autowired
-	public ResourceServerController(final ResourceService service) {
-		this.service = service;
+	public ResourceServerController(final ResourceService service, final BulkIngestService bulk, final SearchService search, final ChangeFeedService feed, final ExportService exports,
+			@Qualifier(AsyncConfig.RESOURCE_TASK_EXECUTOR) final AsyncTaskExecutor executor) {
+		this.service = service; this.bulk = bulk; this.search = search; this.feed = feed; this.exports = exports; this.executor = executor;
+	}
+
+	@Nullable @GetMapping("/public")
+	public BaseRes<?> retrievePublicInfo(final ServletWebRequest request, @RequestParam(required=false) @Nullable @Pattern(regexp=InfoRow.FIELDS_PATTERN) final String fields) {
+		return notModified(service.retrievePublicVersion(), request) ? null : retrievePublic(fields);
+	}
+
+	@Nullable @GetMapping("/secret")
+	public BaseRes<?> retrieveSecretInfo(final ServletWebRequest request, @RequestParam(required=false) @Nullable @Pattern(regexp=InfoRow.FIELDS_PATTERN) final String fields) {
+		return notModified(service.retrieveSecretVersion(), request) ? null : retrieveSecret(fields);
+	}
+
+	@GetMapping("/public/{id:\\d+}")
+	public BaseRes<InfoRow> retrievePublicRow(@PathVariable final int id) {
+		return BaseRes.success(service.retrievePublicRow(id));
+	}
+
+	@GetMapping("/secret/{id:\\d+}")
+	public BaseRes<InfoRow> retrieveSecretRow(@PathVariable final int id) {
+		return BaseRes.success(service.retrieveSecretRow(id));
+	}
+
+	@PostMapping("/public/_mget")
+	public BaseRes<MultiGetRes> retrievePublicRows(@RequestBody @Valid final MultiGetReq req) {
+		return BaseRes.success(service.retrievePublicRowsByIds(req.ids()));
+	}
+
+	@PostMapping("/secret/_mget")
+	public BaseRes<MultiGetRes> retrieveSecretRows(@RequestBody @Valid final MultiGetReq req) {
+		return BaseRes.success(service.retrieveSecretRowsByIds(req.ids()));
 	}
 
-	@GetMapping("/public")
-	public BaseRes<List<String>> retrievePublicInfo() {
-		return BaseRes.success(service.retrievePublicInfo());
+	@GetMapping("/public/_search")
+	public BaseRes<List<SearchHit>> searchPublicInfo(@RequestParam @NotBlank final String q, @RequestParam(defaultValue="10") @Min(1) @Max(100) final int k) {
+		return BaseRes.success(search.searchPublicInfo(q, k));
 	}
 
-	@GetMapping("/secret")
-	public BaseRes<List<String>> retrieveSecretInfo() {
-		return BaseRes.success(service.retrieveSecretInfo());
+	@Nullable @GetMapping("/public/async")
+	public CompletableFuture<BaseRes<?>> retrievePublicInfoAsync(final ServletWebRequest request, @RequestParam(required=false) @Nullable @Pattern(regexp=InfoRow.FIELDS_PATTERN) final String fields) {
+		return CompletableFuture.supplyAsync(() -> notModified(service.retrievePublicVersion(), request) ? null : retrievePublic(fields), executor);
+	}
+
+	@Nullable @GetMapping("/secret/async")
+	public CompletableFuture<BaseRes<?>> retrieveSecretInfoAsync(final ServletWebRequest request, @RequestParam(required=false) @Nullable @Pattern(regexp=InfoRow.FIELDS_PATTERN) final String fields) {
+		return CompletableFuture.supplyAsync(() -> notModified(service.retrieveSecretVersion(), request) ? null : retrieveSecret(fields), executor);
+	}
+
+	/* without fields the contents list is served as before, possibly from the snapshot, with fields only those columns are read */
+	private BaseRes<?> retrievePublic(@Nullable final String fields) {
+		return Objects.isNull(fields) ? BaseRes.success(service.retrievePublicInfo()) : BaseRes.success(service.retrievePublicRows(InfoRow.Field.parse(fields)));
+	}
+
+	private BaseRes<?> retrieveSecret(@Nullable final String fields) {
+		return Objects.isNull(fields) ? BaseRes.success(service.retrieveSecretInfo()) : BaseRes.success(service.retrieveSecretRows(InfoRow.Field.parse(fields)));
+	}
+
+	@PostMapping(path="/public/_bulk", consumes={MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	public BaseRes<BulkIngestRes> ingestPublicInfo(final HttpServletRequest request) throws IOException {
+		return BaseRes.success(bulk.ingest(InfoTable.PUBLIC_INFO, request));
+	}
+
+	@PostMapping(path="/secret/_bulk", consumes={MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	public BaseRes<BulkIngestRes> ingestSecretInfo(final HttpServletRequest request) throws IOException {
+		return BaseRes.success(bulk.ingest(InfoTable.SECRET_INFO, request));
+	}
+
+	@PostMapping(path="/public/_upload", consumes={MediaType.MULTIPART_FORM_DATA_VALUE, InfoFormat.CSV_VALUE, InfoFormat.NDJSON_VALUE})
+	public BaseRes<List<BulkIngestRes>> uploadPublicInfo(final HttpServletRequest request) throws IOException, HttpMediaTypeNotSupportedException {
+		return BaseRes.success(bulk.upload(InfoTable.PUBLIC_INFO, request));
+	}
+
+	@PostMapping(path="/secret/_upload", consumes={MediaType.MULTIPART_FORM_DATA_VALUE, InfoFormat.CSV_VALUE, InfoFormat.NDJSON_VALUE})
+	public BaseRes<List<BulkIngestRes>> uploadSecretInfo(final HttpServletRequest request) throws IOException, HttpMediaTypeNotSupportedException {
+		return BaseRes.success(bulk.upload(InfoTable.SECRET_INFO, request));
+	}
+
+	@GetMapping("/public/_export")
+	public void exportPublicInfo(final HttpServletResponse response, @RequestParam(defaultValue="csv") @Pattern(regexp=InfoFormat.PATTERN) final String format) throws IOException {
+		exports.export(InfoTable.PUBLIC_INFO, InfoFormat.parse(format), response);
+	}
+
+	@GetMapping("/secret/_export")
+	public void exportSecretInfo(final HttpServletResponse response, @RequestParam(defaultValue="csv") @Pattern(regexp=InfoFormat.PATTERN) final String format) throws IOException {
+		exports.export(InfoTable.SECRET_INFO, InfoFormat.parse(format), response);
+	}
+
+	@GetMapping("/public/_export/snapshot")
+	public void downloadPublicSnapshot(final ServletWebRequest request, @RequestParam(defaultValue="csv") @Pattern(regexp=InfoFormat.PATTERN) final String format) throws IOException {
+		download(InfoTable.PUBLIC_INFO, InfoFormat.parse(format), request);
+	}
+
+	@GetMapping("/secret/_export/snapshot")
+	public void downloadSecretSnapshot(final ServletWebRequest request, @RequestParam(defaultValue="csv") @Pattern(regexp=InfoFormat.PATTERN) final String format) throws IOException {
+		download(InfoTable.SECRET_INFO, InfoFormat.parse(format), request);
+	}
+
+	private void download(final InfoTable table, final InfoFormat format, final ServletWebRequest request) throws IOException {
+
+		final ExportService.Snapshot snapshot = exports.snapshot(table, format);
+		final HttpServletResponse response = Objects.requireNonNull(request.getResponse());
+
+		response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+		if (!notModified(snapshot.version(), snapshot.version().etag(format.extension()), request)) { exports.transfer(snapshot, request.getRequest(), response); }
+	}
+
+	@GetMapping(path="/public/_feed", produces=MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter feedPublicInfo(@RequestHeader(name="Last-Event-ID", required=false) @Nullable final Integer lastEventId,
+			@RequestParam(required=false) @Nullable final Integer afterId, @RequestParam(required=false) @DateTimeFormat(iso=DateTimeFormat.ISO.DATE_TIME) @Nullable final LocalDateTime since) {
+		return feed.stream(InfoTable.PUBLIC_INFO, Objects.nonNull(lastEventId) ? lastEventId : afterId, since);
+	}
+
+	@GetMapping(path="/secret/_feed", produces=MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter feedSecretInfo(@RequestHeader(name="Last-Event-ID", required=false) @Nullable final Integer lastEventId,
+			@RequestParam(required=false) @Nullable final Integer afterId, @RequestParam(required=false) @DateTimeFormat(iso=DateTimeFormat.ISO.DATE_TIME) @Nullable final LocalDateTime since) {
+		return feed.stream(InfoTable.SECRET_INFO, Objects.nonNull(lastEventId) ? lastEventId : afterId, since);
+	}
+
+	private boolean notModified(final ResourceVersion version, final ServletWebRequest request) {
+
+		final HttpServletResponse response = Objects.requireNonNull(request.getResponse());
+		response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE); CompactResponseAdvice.vary(response);
+
+		return notModified(version, version.etag(), request);
+	}
+
+	/* a late commit can carry an older create date than the newest row, so Last-Modified is informational and only the etag answers 304 */
+	private static boolean notModified(final ResourceVersion version, final String etag, final ServletWebRequest request) {
+
+		if (version.lastModified() >= 0) { Objects.requireNonNull(request.getResponse()).setDateHeader(HttpHeaders.LAST_MODIFIED, version.lastModified()); }
+
+		return request.checkNotModified(etag);
 	}
 }
@@ -1,6 +1,3 @@
-DROP TABLE IF EXISTS PUBLIC_INFO;
-DROP TABLE IF EXISTS SECRET_INFO;
-
 CREATE TABLE PUBLIC_INFO (
 	RESOURCE_ID INT AUTO_INCREMENT PRIMARY KEY,
 	CONTENTS VARCHAR(100) NOT NULL,
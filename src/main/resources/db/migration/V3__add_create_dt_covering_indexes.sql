@@ -0,0 +1,2 @@
+CREATE INDEX IX_PUBLIC_INFO_CREATE_DT ON PUBLIC_INFO (CREATE_DT, RESOURCE_ID, CONTENTS);
+CREATE INDEX IX_SECRET_INFO_CREATE_DT ON SECRET_INFO (CREATE_DT, RESOURCE_ID, CONTENTS);
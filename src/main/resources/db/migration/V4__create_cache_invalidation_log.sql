@@ -0,0 +1,9 @@
+CREATE TABLE CACHE_INVALIDATION_LOG (
+	LOG_ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+	TABLE_NAME VARCHAR(32) NOT NULL,
+	ROW_COUNT BIGINT NOT NULL,
+	NODE_ID VARCHAR(64) NOT NULL,
+	CREATE_DT TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IX_CACHE_INVALIDATION_LOG_CREATE_DT ON CACHE_INVALIDATION_LOG (CREATE_DT);
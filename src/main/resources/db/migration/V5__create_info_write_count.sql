@@ -0,0 +1,6 @@
+CREATE TABLE INFO_WRITE_COUNT (
+	TABLE_NAME VARCHAR(32) PRIMARY KEY,
+	WRITES BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO INFO_WRITE_COUNT (TABLE_NAME) VALUES ('PUBLIC_INFO'), ('SECRET_INFO');
@@ -0,0 +1,80 @@
+package io.doe.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.lang.Nullable;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MessageResolverTest
+ * @since 2026-10-18
+ */
+
+class MessageResolverTest {
+
+	private static final MessageKey PART_KEY = MessageKey.validation("MissingServletRequestPartException");
+
+	private final CountingMessageSource source = new CountingMessageSource();
+	private final MessageResolver resolver = new MessageResolver(source);
+
+	MessageResolverTest() {
+		source.addMessage(PART_KEY.code(), Locale.ENGLISH, "Part {0} is not present");
+		source.addMessage(PART_KEY.code(), Locale.KOREAN, "{0} 파트가 없습니다");
+		source.addMessage("field.name", Locale.ENGLISH, "Name");
+	}
+
+	static class CountingMessageSource extends StaticMessageSource {
+
+		private final AtomicInteger lookups = new AtomicInteger();
+
+		@Nullable @Override
+		protected String resolveCodeWithoutArguments(final String code, final Locale locale) {
+			lookups.incrementAndGet(); return super.resolveCodeWithoutArguments(code, locale);
+		}
+	}
+
+	@AfterEach
+	void resetLocale() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	void compilesOncePerKeyAndLocale() {
+
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		assertThat(resolver.resolve(PART_KEY, "file")).isEqualTo("Part file is not present");
+		assertThat(resolver.resolve(PART_KEY, "image")).isEqualTo("Part image is not present");
+		assertThat(source.lookups).hasValue(1);
+
+		LocaleContextHolder.setLocale(Locale.KOREAN);
+		assertThat(resolver.resolve(PART_KEY, "file")).isEqualTo("file 파트가 없습니다");
+		assertThat(source.lookups).hasValue(2);
+	}
+
+	@Test
+	void fallsBackAndCachesMisses() {
+
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		assertThat(resolver.resolve(MessageKey.service("missing"))).isEqualTo(Constants.DEFAULT_EXCEPTION_MESSAGE);
+		assertThat(resolver.resolveOrDefault(MessageKey.service("missing"), "")).isEmpty();
+		assertThat(source.lookups).hasValue(1);
+	}
+
+	@Test
+	void resolvesResolvableArguments() {
+
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		final MessageSourceResolvable field = new DefaultMessageSourceResolvable(new String[]{"field.name"}, "name");
+		assertThat(resolver.resolve(PART_KEY, field)).isEqualTo("Part Name is not present");
+	}
+}
@@ -0,0 +1,120 @@
+package io.doe.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.doe.ApplicationMain;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see AsyncConfigTest
+ * @since 2026-10-18
+ */
+
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties={"base.warmup.enabled=false", "base.async.core-pool-size=1", "base.async.max-pool-size=1", "base.async.queue-capacity=1",
+		"spring.mvc.async.request-timeout=250ms"})
+class AsyncConfigTest {
+
+	private static final KeyPair KEYS = generateKeyPair();
+	private static final String URI = "/rest/v1/resource/public/async";
+
+	private final MockMvc mvc;
+	private final ThreadPoolTaskExecutor executor;
+
+	@Autowired
+	AsyncConfigTest(final MockMvc mvc, @Qualifier(AsyncConfig.RESOURCE_TASK_EXECUTOR) final ThreadPoolTaskExecutor executor) {
+		this.mvc = mvc; this.executor = executor;
+	}
+
+	@DynamicPropertySource
+	static void registerPublicKey(final DynamicPropertyRegistry registry) throws Exception {
+
+		final Path path = Files.createTempFile("rsa", ".pub");
+		Files.writeString(path, Base64.getEncoder().encodeToString(KEYS.getPublic().getEncoded()));
+		path.toFile().deleteOnExit();
+
+		registry.add("base.auth.rsa-path", () -> path.toUri().toString());
+	}
+
+	@Test
+	void aFullExecutorRejectsAndAQueuedRequestTimesOutAsServiceUnavailable() throws Exception {
+
+		final CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> { try { release.await(); } catch (final InterruptedException e) { Thread.currentThread().interrupt(); } });
+
+		try {
+			final MvcResult queued = mvc.perform(get(URI).header(HttpHeaders.AUTHORIZATION, bearer())).andExpect(request().asyncStarted()).andReturn();
+			final MockAsyncContext context = (MockAsyncContext)Objects.requireNonNull(queued.getRequest().getAsyncContext());
+			assertThat(context.getTimeout()).isEqualTo(250L);
+
+			mvc.perform(get(URI).header(HttpHeaders.AUTHORIZATION, bearer()))
+					.andExpect(status().isServiceUnavailable()).andExpect(jsonPath("$.message").value("Asynchronous request rejected"));
+
+			for (final AsyncListener l : context.getListeners()) { l.onTimeout(new AsyncEvent(context)); }
+
+			mvc.perform(asyncDispatch(queued)).andExpect(status().isServiceUnavailable()).andExpect(jsonPath("$.message").value("Asynchronous request time out"));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	private static String bearer() throws Exception {
+
+		final JWTClaimsSet claims = new JWTClaimsSet.Builder().subject("async").claim("scope", "resource:read ADMIN")
+				.issueTime(new Date()).expirationTime(Date.from(Instant.now().plusSeconds(60))).build();
+
+		final SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+		jwt.sign(new RSASSASigner(KEYS.getPrivate()));
+
+		return "Bearer " + jwt.serialize();
+	}
+
+	private static KeyPair generateKeyPair() {
+
+		try {
+			final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return generator.generateKeyPair();
+		} catch (final Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package io.doe.config;
+
+import io.doe.ApplicationMain;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see CorsConfigTest
+ * @since 2026-10-18
+ */
+
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties={"base.warmup.enabled=false", "base.cors.path-max-age[/rest/v1/resource/secret/**]=10m"})
+class CorsConfigTest {
+
+	private static final String ORIGIN = "https://client.example";
+
+	private final MockMvc mvc;
+
+	@Autowired
+	CorsConfigTest(final MockMvc mvc) {
+		this.mvc = mvc;
+	}
+
+	@Test
+	void preflightMaxAgeFollowsTheMostSpecificPath() throws Exception {
+
+		mvc.perform(options("/rest/v1/resource/secret").header(HttpHeaders.ORIGIN, ORIGIN).header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET"))
+				.andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*")).andExpect(header().string(HttpHeaders.ACCESS_CONTROL_MAX_AGE, "600"));
+
+		mvc.perform(options("/rest/v1/resource/public").header(HttpHeaders.ORIGIN, ORIGIN).header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET")
+						.header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "Authorization, Content-Type"))
+				.andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ACCESS_CONTROL_MAX_AGE, "3600"))
+				.andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, "Authorization, Content-Type"));
+	}
+
+	@Test
+	void preflightForAnUnknownMethodIsRejected() throws Exception {
+
+		mvc.perform(options("/rest/v1/resource/public").header(HttpHeaders.ORIGIN, ORIGIN).header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PROPFIND"))
+				.andExpect(status().isForbidden()).andExpect(header().doesNotExist(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN))
+				.andExpect(content().string("Invalid CORS request"));
+	}
+}
@@ -0,0 +1,131 @@
+package io.doe.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.doe.ApplicationMain;
+import io.doe.domain.InfoRow;
+import io.doe.service.ResourceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see DataSourceConfigTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="base.warmup.enabled=false")
+class DataSourceConfigTest {
+
+	private static final String POOL = "sizing";
+	private static final long HELD = Duration.ofMillis(250).toNanos();
+
+	private final MeterRegistry registry;
+	private final ResourceService service;
+	private final ServerProperties server;
+	private final DataSourceConfig.PoolSizingEndpoint endpoint;
+
+	@Autowired
+	DataSourceConfigTest(final MeterRegistry registry, final ResourceService service, final ServerProperties server, final DataSourceConfig.PoolSizingEndpoint endpoint) {
+		this.registry = registry; this.service = service; this.server = server; this.endpoint = endpoint;
+	}
+
+	@Test
+	void peakDemandWithHeadroomIsClampedToRequestThreads() {
+
+		final DataSourceConfig.ConnectionHoldListener listener = new DataSourceConfig.ConnectionHoldListener(new SimpleMeterRegistry());
+		final HikariDataSource hds = pool();
+
+		final DataSourceConfig.PoolUsage usage = listener.usageOf(hds);
+		usage.acquired(20); usage.released(1);
+
+		assertThat(describe(new DataSourceConfig.PoolSizingEndpoint(64, Map.of("dataSource", hds), listener)))
+				.containsEntry("peakDemand", 21).containsEntry("requestThreads", 64).containsEntry("recommendedPoolSize", 26);
+		assertThat(describe(new DataSourceConfig.PoolSizingEndpoint(8, Map.of("dataSource", hds), listener)))
+				.containsEntry("requestThreads", 8).containsEntry("recommendedPoolSize", 8);
+	}
+
+	@Test
+	void meanConcurrencyFollowsLittlesLaw() throws Exception {
+
+		final DataSourceConfig.ConnectionHoldListener listener = new DataSourceConfig.ConnectionHoldListener(new SimpleMeterRegistry());
+		final HikariDataSource hds = pool();
+		final DataSourceConfig.PoolSizingEndpoint sizing = new DataSourceConfig.PoolSizingEndpoint(64, Map.of("dataSource", hds), listener);
+
+		final long resetFrom = System.nanoTime();
+		sizing.reset();
+		final long resetTo = System.nanoTime();
+
+		final DataSourceConfig.PoolUsage usage = listener.usageOf(hds);
+		for (int i = 0; i < 4; i++) { usage.acquired(0); usage.released(HELD); }
+		Thread.sleep(200);
+
+		final long readFrom = System.nanoTime();
+		final Map<String, Object> described = describe(sizing);
+		final long readTo = System.nanoTime();
+
+		/* L = lambda * W = (4 / elapsed) * 250ms, so only the elapsed window is uncertain */
+		final double low = 4 * HELD / (double)(readTo - resetFrom);
+		final double high = 4 * HELD / (double)(readFrom - resetTo);
+
+		assertThat(described).containsEntry("acquisitions", 4L).containsEntry("meanHoldMillis", 250d).containsEntry("peakDemand", 1);
+		assertThat((double)described.get("meanConcurrency")).isBetween(low, high);
+		assertThat((int)described.get("recommendedPoolSize")).isBetween((int)Math.ceil(low * 1.2), (int)Math.ceil(high * 1.2)).isGreaterThan(2);
+		assertThat(describe(new DataSourceConfig.PoolSizingEndpoint(2, Map.of("dataSource", hds), listener))).containsEntry("recommendedPoolSize", 2);
+	}
+
+	@Test
+	void heldConnectionsAreTimedByCallSiteAndPool() {
+
+		final String site = "ResourceServiceImpl.retrievePublicRows";
+		final long before = holds(site);
+
+		assertThat(service.retrievePublicRows(EnumSet.of(InfoRow.Field.RESOURCE_ID))).isNotEmpty();
+
+		assertThat(holds(site)).isGreaterThan(before);
+		assertThat(registry.find("db.connection.hold").tag("call.site", site).timers())
+				.allSatisfy(t -> assertThat(t.getId().getTag("pool")).isIn("primary", "read"));
+	}
+
+	@Test
+	void endpointClampsToTheConfiguredTomcatThreads() {
+
+		@SuppressWarnings("unchecked")
+		final Map<String, Object> primary = (Map<String, Object>)endpoint.pools().get("primary");
+
+		assertThat(primary).containsEntry("requestThreads", server.getTomcat().getThreads().getMax());
+		assertThat((int)primary.get("recommendedPoolSize")).isBetween(1, server.getTomcat().getThreads().getMax());
+	}
+
+	private long holds(final String site) {
+		return registry.find("db.connection.hold").tag("call.site", site).timers().stream().mapToLong(Timer::count).sum();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> describe(final DataSourceConfig.PoolSizingEndpoint sizing) {
+		return (Map<String, Object>)sizing.pools().get(POOL);
+	}
+
+	private static HikariDataSource pool() {
+
+		final HikariDataSource hds = new HikariDataSource();
+		hds.setPoolName(POOL);
+		hds.setJdbcUrl("jdbc:h2:mem:sizing");
+
+		return hds;
+	}
+}
@@ -0,0 +1,90 @@
+package io.doe.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MetricsConfigTest
+ * @since 2026-10-18
+ */
+
+class MetricsConfigTest {
+
+	private static final String URI = "/rest/v1/resource/public";
+
+	@BeforeAll
+	static void requireThreadCounters() {
+		assumeTrue(MetricsConfig.Usage.supported(), "thread cpu time and allocation counters are not available");
+	}
+
+	@Test
+	void costHeaderIsWrittenWhenTheResponseCommits() throws Exception {
+
+		final MeterRegistry registry = new SimpleMeterRegistry();
+		final MockHttpServletResponse response = serve(registry, new BaseProperties.Accounting(true, true));
+
+		assertThat(response.getHeader(MetricsConfig.COST_HEADER)).matches("cpu=\\d+\\.\\d{3}ms, alloc=[1-9]\\d*B");
+		assertThat(registry.find(MetricsConfig.STAGE_METRIC).tags("uri", URI, "stage", MetricsConfig.SERIALIZATION_STAGE).timer()).extracting(Timer::count).isEqualTo(1L);
+		assertThat(registry.find(MetricsConfig.STAGE_ALLOCATION_METRIC).tags("uri", URI, "stage", MetricsConfig.REQUEST_STAGE).summary()).extracting(DistributionSummary::totalAmount)
+				.satisfies(bytes -> assertThat(bytes).isGreaterThan(0d));
+		assertThat(registry.find(MetricsConfig.STAGE_CPU_METRIC).tags("uri", URI, "stage", MetricsConfig.REQUEST_STAGE).timer()).isNotNull();
+	}
+
+	@Test
+	void accountingWithoutTheHeaderStillRecordsUsage() throws Exception {
+
+		final MeterRegistry registry = new SimpleMeterRegistry();
+		final MockHttpServletResponse response = serve(registry, new BaseProperties.Accounting(true, false));
+
+		assertThat(response.getHeader(MetricsConfig.COST_HEADER)).isNull();
+		assertThat(registry.find(MetricsConfig.STAGE_CPU_METRIC).tags("uri", URI, "stage", MetricsConfig.REQUEST_STAGE).timer()).isNotNull();
+	}
+
+	@Test
+	void disabledAccountingKeepsOnlyTheStageTimers() throws Exception {
+
+		final MeterRegistry registry = new SimpleMeterRegistry();
+		final MockHttpServletResponse response = serve(registry, new BaseProperties.Accounting(false, true));
+
+		assertThat(response.getHeader(MetricsConfig.COST_HEADER)).isNull();
+		assertThat(registry.find(MetricsConfig.STAGE_METRIC).tags("uri", URI, "stage", MetricsConfig.SERIALIZATION_STAGE).timer()).isNotNull();
+		assertThat(registry.find(MetricsConfig.STAGE_CPU_METRIC).timer()).isNull();
+		assertThat(registry.find(MetricsConfig.STAGE_ALLOCATION_METRIC).summary()).isNull();
+	}
+
+	private static MockHttpServletResponse serve(final MeterRegistry registry, final BaseProperties.Accounting props) throws Exception {
+
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		new MockFilterChain(new HttpServlet() {
+			@Override
+			public void service(final ServletRequest req, final ServletResponse res) throws IOException {
+				final byte[] body = MetricsConfig.RequestStages.measure(MetricsConfig.SERIALIZATION_STAGE, () -> "[\"accounted\"]".repeat(64).getBytes(StandardCharsets.UTF_8));
+				res.getOutputStream().write(body); res.flushBuffer();
+			}
+		}, new MetricsConfig.RouteStageMetricsFilter(registry, props)).doFilter(request, response);
+
+		return response;
+	}
+}
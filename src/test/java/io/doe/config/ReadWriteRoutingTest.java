@@ -0,0 +1,74 @@
+package io.doe.config;
+
+import io.doe.ApplicationMain;
+import io.doe.domain.PublicInfo;
+import io.doe.persistence.PublicInfoRepo;
+import io.doe.service.ResourceService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ReadWriteRoutingTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="base.datasource.read.jdbc-url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;MODE=MySQL;")
+class ReadWriteRoutingTest {
+
+	private static final String REPLICA_CONTENTS = "served from the read replica";
+
+	private final PublicInfoRepo pr;
+	private final ResourceService service;
+	private final PlatformTransactionManager tm;
+
+	@Autowired
+	ReadWriteRoutingTest(final PublicInfoRepo pr, final ResourceService service, final PlatformTransactionManager tm,
+			@Qualifier(DataSourceConfig.READ_DATA_SOURCE) final DataSource read) {
+
+		this.pr = pr; this.service = service; this.tm = tm;
+
+		new JdbcTemplate(read).execute((ConnectionCallback<Void>)c -> {
+			try (final Statement st = c.createStatement()) {
+				st.execute("CREATE TABLE IF NOT EXISTS PUBLIC_INFO (RESOURCE_ID INT AUTO_INCREMENT PRIMARY KEY, CONTENTS VARCHAR(100) NOT NULL, CREATE_DT TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+				st.execute("MERGE INTO PUBLIC_INFO (RESOURCE_ID, CONTENTS) KEY (RESOURCE_ID) VALUES (1, '" + REPLICA_CONTENTS + "')");
+			}
+			c.commit(); return null;
+		});
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReadPool() {
+
+		final TransactionTemplate tt = new TransactionTemplate(tm);
+		tt.setReadOnly(true);
+
+		assertThat(service.retrievePublicInfo()).containsExactly(REPLICA_CONTENTS);
+		assertThat(tt.<List<String>>execute(s -> contentsOf(pr.findAll()))).containsExactly(REPLICA_CONTENTS);
+	}
+
+	@Test
+	void readWriteTransactionsGoToPrimaryPool() {
+		assertThat(new TransactionTemplate(tm).<List<String>>execute(s -> contentsOf(pr.findAll()))).doesNotContain(REPLICA_CONTENTS).isNotEmpty();
+	}
+
+	private static List<String> contentsOf(final List<PublicInfo> source) {
+		return source.stream().map(PublicInfo::getContents).toList();
+	}
+}
@@ -0,0 +1,159 @@
+package io.doe.config;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.doe.ApplicationMain;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see TracingTest
+ * @since 2026-10-18
+ */
+
+@AutoConfigureMockMvc
+@Import(TracingTest.InMemorySpanHandlerConfig.class)
+@AutoConfigureObservability(metrics=false)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="management.tracing.sampling.probability=1.0")
+class TracingTest {
+
+	private static final KeyPair KEYS = generateKeyPair();
+
+	private final MockMvc mvc;
+	private final InMemorySpanHandler spans;
+	private final MeterRegistry registry;
+
+	@Autowired
+	TracingTest(final MockMvc mvc, final InMemorySpanHandler spans, final MeterRegistry registry) {
+		this.mvc = mvc; this.spans = spans; this.registry = registry;
+	}
+
+	@DynamicPropertySource
+	static void registerPublicKey(final DynamicPropertyRegistry registry) throws Exception {
+
+		final Path path = Files.createTempFile("rsa", ".pub");
+		Files.writeString(path, Base64.getEncoder().encodeToString(KEYS.getPublic().getEncoded()));
+		path.toFile().deleteOnExit();
+
+		registry.add("base.auth.rsa-path", () -> path.toUri().toString());
+	}
+
+	@TestConfiguration
+	static class InMemorySpanHandlerConfig {
+
+		@Bean
+		InMemorySpanHandler inMemorySpanHandler() {
+			return new InMemorySpanHandler();
+		}
+	}
+
+	static class InMemorySpanHandler extends SpanHandler {
+
+		private final List<MutableSpan> finished = new CopyOnWriteArrayList<>();
+
+		@Override
+		public boolean end(final TraceContext context, final MutableSpan span, final Cause cause) {
+			finished.add(span); return true;
+		}
+	}
+
+	@BeforeEach
+	void clear() {
+		spans.finished.clear();
+	}
+
+	@Test
+	void requestSpanParentsDecodeServiceAndStatementSpans() throws Exception {
+
+		mvc.perform(get("/rest/v1/resource/public").header("Authorization", "Bearer " + token())).andExpect(status().isOk());
+
+		assertSingleTraceWith("http get /rest/v1/resource/public", "jwt decode", "resource-service-impl.retrieve-public-info", "jdbc select");
+	}
+
+	@Test
+	void decodeAndStatementObservationsAreTimedAsRequestStages() throws Exception {
+
+		mvc.perform(get("/rest/v1/resource/public").header("Authorization", "Bearer " + token())).andExpect(status().isOk());
+
+		assertThat(registry.find(MetricsConfig.STAGE_METRIC).tags("uri", "/rest/v1/resource/public", "stage", MetricsConfig.JWT_DECODE_STAGE).timer()).isNotNull();
+		assertThat(registry.find(MetricsConfig.STAGE_METRIC).tags("uri", "/rest/v1/resource/public", "stage", MetricsConfig.DB_STAGE).timer()).isNotNull();
+	}
+
+	@Test
+	void traceContextFollowsAsyncWork() throws Exception {
+
+		final MvcResult result = mvc.perform(get("/rest/v1/resource/public/async").header("Authorization", "Bearer " + token())).andReturn();
+		mvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+		assertSingleTraceWith("http get /rest/v1/resource/public/async", "resource-service-impl.retrieve-public-info", "jdbc select");
+	}
+
+	private void assertSingleTraceWith(final String... names) {
+
+		final List<MutableSpan> matched = spans.finished.stream().filter(s -> List.of(names).contains(String.valueOf(s.name()).toLowerCase(Locale.ROOT))).toList();
+
+		assertThat(matched).extracting(s -> s.name().toLowerCase(Locale.ROOT)).contains(names);
+		assertThat(matched).extracting(MutableSpan::traceId).containsOnly(matched.getFirst().traceId());
+	}
+
+	private static String token() throws Exception {
+
+		final JWTClaimsSet claims = new JWTClaimsSet.Builder().subject("tracing").claim("scope", "resource:read ADMIN")
+				.issueTime(new Date()).expirationTime(Date.from(Instant.now().plusSeconds(60))).build();
+
+		final SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+		jwt.sign(new RSASSASigner(KEYS.getPrivate()));
+
+		return jwt.serialize();
+	}
+
+	private static KeyPair generateKeyPair() {
+
+		try {
+			final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return generator.generateKeyPair();
+		} catch (final Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package io.doe.config;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see WebMvcConfigTest
+ * @since 2026-10-18
+ */
+
+class WebMvcConfigTest {
+
+	@Test
+	void legacySnakeCaseWrapperLeavesParametersAloneUntilAsked() {
+
+		final AtomicInteger reads = new AtomicInteger();
+		final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/rest/v1/resource/public/_upload") {
+			@Override
+			public Map<String, String[]> getParameterMap() {
+				reads.incrementAndGet(); return super.getParameterMap();
+			}
+		};
+		request.addParameter("page_size", "10");
+
+		final WebMvcConfig.SnakeCaseParameterNameWrapper wrapper = new WebMvcConfig.SnakeCaseParameterNameWrapper(request);
+		assertThat(reads).hasValue(0);
+
+		assertThat(wrapper.getParameter("pageSize")).isEqualTo("10");
+		assertThat(wrapper.getParameterValues("pageSize")).containsExactly("10");
+		assertThat(reads).hasValue(1);
+	}
+
+	@Test
+	void fusedFilterHandsOnTheSameRequestAsTheSeparateFilters() throws Exception {
+
+		final HttpServletRequest separate = through(request(), new WebMvcConfig.RemoteAddressFilter(), new WebMvcConfig.SnakeCaseParameterNameFilter());
+		final HttpServletRequest fused = through(request(), new WebMvcConfig.FusedRequestFilter(new BaseProperties.RequestFilter(true, true, true, true)));
+
+		assertThat(fused.getRemoteAddr()).isEqualTo(separate.getRemoteAddr()).isEqualTo("10.0.0.1");
+		assertThat(fused.getParameter("pageSize")).isEqualTo(separate.getParameter("pageSize")).isEqualTo("10");
+		assertThat(fused.getParameterValues("tag")).containsExactly(separate.getParameterValues("tag"));
+		assertThat(Collections.list(fused.getParameterNames())).containsExactlyInAnyOrderElementsOf(Collections.list(separate.getParameterNames()));
+		assertThat(fused.getParameterMap()).containsOnlyKeys(separate.getParameterMap().keySet());
+	}
+
+	@Test
+	void fusedWrapperCapturesTheBodyOnlyAsItIsRead() throws Exception {
+
+		final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/rest/v1/resource/public");
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE); request.setCharacterEncoding("UTF-8");
+		request.setContent("{\"contents\":\"fused\"}".getBytes(StandardCharsets.UTF_8));
+
+		final WebMvcConfig.FusedRequestWrapper wrapper = new WebMvcConfig.FusedRequestWrapper(request, false, false, 12);
+		assertThat(wrapper.payload(12)).isNull();
+
+		assertThat(StreamUtils.copyToString(wrapper.getInputStream(), StandardCharsets.UTF_8)).isEqualTo("{\"contents\":\"fused\"}");
+		assertThat(wrapper.payload(12)).isEqualTo("{\"contents\":");
+	}
+
+	private static MockHttpServletRequest request() {
+
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/rest/v1/resource/public");
+		request.addHeader("X-Forwarded-For", " unknown ");
+		request.addHeader("X-Real-IP", " 10.0.0.1 , 10.0.0.2");
+		request.addParameter("page_size", "10");
+		request.addParameter("tag", "a", "b");
+
+		return request;
+	}
+
+	private static HttpServletRequest through(final MockHttpServletRequest request, final Filter... filters) throws Exception {
+
+		final AtomicReference<HttpServletRequest> seen = new AtomicReference<>();
+		new MockFilterChain(new HttpServlet() {
+			@Override
+			public void service(final ServletRequest req, final ServletResponse res) { seen.set((HttpServletRequest)req); }
+		}, filters).doFilter(request, new MockHttpServletResponse());
+
+		return seen.get();
+	}
+}
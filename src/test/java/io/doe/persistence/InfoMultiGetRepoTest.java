@@ -0,0 +1,91 @@
+package io.doe.persistence;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import io.doe.ApplicationMain;
+import io.doe.domain.PublicInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoMultiGetRepoTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@Import(InfoMultiGetRepoTest.StatementCaptureConfig.class)
+@SpringBootTest(classes=ApplicationMain.class, properties={"base.warmup.enabled=false", "base.mget.chunk-size=4"})
+class InfoMultiGetRepoTest {
+
+	private final PublicInfoRepo pr;
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final StatementCapture capture;
+
+	@Autowired
+	InfoMultiGetRepoTest(final PublicInfoRepo pr, final JdbcTemplate jt, final PlatformTransactionManager tm, final StatementCapture capture) {
+		this.pr = pr; this.jt = jt; this.tt = new TransactionTemplate(tm); this.capture = capture;
+	}
+
+	@TestConfiguration
+	static class StatementCaptureConfig {
+
+		@Bean
+		StatementCapture statementCapture() {
+			return new StatementCapture();
+		}
+	}
+
+	static class StatementCapture extends SimpleJdbcEventListener {
+
+		private final List<String> statements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onAfterAnyExecute(final StatementInformation info, final long elapsed, @Nullable final SQLException e) {
+			if (Objects.nonNull(info.getSql()) && info.getSql().toLowerCase(Locale.ROOT).contains(" in (")) { statements.add(info.getSql()); }
+		}
+	}
+
+	@Test
+	void missesArePaddedToOneStatementShapeAndRowsKeepRequestOrder() {
+
+		final int head = Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM PUBLIC_INFO", Integer.class))) + 100;
+		tt.executeWithoutResult(s -> IntStream.rangeClosed(1, 6).forEach(n -> jt.update("INSERT INTO PUBLIC_INFO (RESOURCE_ID, CONTENTS) VALUES (?, ?)", head + n, "mget " + n)));
+
+		final List<Integer> ids = List.of(head + 6, head + 1, head + 99, head + 3, head + 1, head + 2, head + 4, head + 5);
+
+		capture.statements.clear();
+		assertThat(fetch(ids)).containsExactly(head + 6, head + 1, head + 3, head + 2, head + 4, head + 5);
+		assertThat(capture.statements).hasSize(2).allSatisfy(sql -> assertThat(sql).isEqualTo(capture.statements.getFirst()));
+		assertThat(capture.statements.getFirst().chars().filter(c -> c == '?').count()).isEqualTo(4);
+
+		capture.statements.clear();
+		assertThat(fetch(ids)).containsExactly(head + 6, head + 1, head + 3, head + 2, head + 4, head + 5);
+		assertThat(capture.statements).hasSize(1);
+	}
+
+	private List<Integer> fetch(final List<Integer> ids) {
+		return Objects.requireNonNull(tt.execute(s -> pr.findAllByResourceIdChunked(ids).stream().map(PublicInfo::getResourceId).toList()));
+	}
+}
@@ -0,0 +1,113 @@
+package io.doe.persistence;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import io.doe.ApplicationMain;
+import io.doe.domain.PublicInfo;
+import io.doe.domain.SecretInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoRepoIndexTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@Import(InfoRepoIndexTest.StatementCaptureConfig.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="base.warmup.enabled=false")
+class InfoRepoIndexTest {
+
+	private static final LocalDateTime FROM = LocalDateTime.of(2001, 1, 1, 0, 0);
+	private static final String PREFIX = "index-test ";
+
+	private final PublicInfoRepo pr;
+	private final SecretInfoRepo sr;
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final StatementCapture capture;
+
+	@Autowired
+	InfoRepoIndexTest(final PublicInfoRepo pr, final SecretInfoRepo sr, final JdbcTemplate jt, final PlatformTransactionManager tm, final StatementCapture capture) {
+		this.pr = pr; this.sr = sr; this.jt = jt; this.tt = new TransactionTemplate(tm); this.capture = capture;
+	}
+
+	@TestConfiguration
+	static class StatementCaptureConfig {
+
+		@Bean
+		StatementCapture statementCapture() {
+			return new StatementCapture();
+		}
+	}
+
+	static class StatementCapture extends SimpleJdbcEventListener {
+
+		private final List<String> statements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onAfterAnyExecute(final StatementInformation info, final long elapsed, @Nullable final SQLException e) {
+			statements.add(info.getSql());
+		}
+
+		String last(final String table) {
+			return statements.reversed().stream().filter(s -> s.toLowerCase(Locale.ROOT).contains("from " + table.toLowerCase(Locale.ROOT))).findFirst().orElseThrow();
+		}
+	}
+
+	@BeforeEach
+	void insertRows() {
+
+		tt.executeWithoutResult(s -> List.of("PUBLIC_INFO", "SECRET_INFO").forEach(table -> {
+			jt.update("DELETE FROM " + table + " WHERE CONTENTS LIKE ?", PREFIX + "%");
+			IntStream.range(0, 4).forEach(n -> jt.update("INSERT INTO " + table + " (CONTENTS, CREATE_DT) VALUES (?, ?)", PREFIX + n, Timestamp.valueOf(FROM.plusHours(12L * n))));
+		}));
+	}
+
+	@Test
+	void timeRangeIsHalfOpenOrderedAndLimited() {
+
+		assertThat(pr.findCreatedBetween(FROM, FROM.plusDays(1), Limit.unlimited())).extracting(PublicInfo::getContents).containsExactly(PREFIX + 0, PREFIX + 1);
+		assertThat(sr.findCreatedBetween(FROM.plusHours(12), FROM.plusDays(2), Limit.of(2))).extracting(SecretInfo::getContents).containsExactly(PREFIX + 1, PREFIX + 2);
+	}
+
+	@Test
+	void timeRangeQueryUsesCreateDtCoveringIndex() {
+
+		pr.findCreatedBetween(FROM, FROM.plusDays(1), Limit.of(10));
+		sr.findCreatedBetween(FROM, FROM.plusDays(1), Limit.of(10));
+
+		assertThat(explain(capture.last("PUBLIC_INFO"))).contains("IX_PUBLIC_INFO_CREATE_DT").doesNotContain("tableScan");
+		assertThat(explain(capture.last("SECRET_INFO"))).contains("IX_SECRET_INFO_CREATE_DT").doesNotContain("tableScan");
+	}
+
+	private String explain(final String sql) {
+
+		final Object[] args = {Timestamp.valueOf(FROM), Timestamp.valueOf(FROM.plusDays(1)), 10};
+		return jt.queryForObject("EXPLAIN " + sql, String.class, args);
+	}
+}
@@ -0,0 +1,60 @@
+package io.doe.service;
+
+import io.doe.ApplicationMain;
+import io.doe.domain.BulkIngestRes;
+import io.doe.domain.InfoFormat;
+import io.doe.domain.InfoTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see BulkIngestServiceTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="base.warmup.enabled=false")
+class BulkIngestServiceTest {
+
+	private final BulkIngestService bulk;
+	private final ResourceService service;
+
+	@Autowired
+	BulkIngestServiceTest(final BulkIngestService bulk, final ResourceService service) {
+		this.bulk = bulk; this.service = service;
+	}
+
+	@Test
+	void nullElementsAreRejectedNotFatal() throws Exception {
+
+		final BulkIngestRes array = bulk.ingest(InfoTable.PUBLIC_INFO, utf8("[{\"contents\":\"bulk null 1\"},null,{\"contents\":\"bulk null 2\"}]"));
+		final BulkIngestRes lines = bulk.ingest(InfoTable.SECRET_INFO, utf8("{\"contents\":\"bulk null 3\"}\nnull\n"));
+
+		assertThat(array.rows()).isEqualTo(2); assertThat(array.rejected()).isEqualTo(1);
+		assertThat(lines.rows()).isEqualTo(1); assertThat(lines.rejected()).isEqualTo(1);
+	}
+
+	@Test
+	void csvContentsAreStrippedLikeJson() throws Exception {
+
+		final int before = service.retrievePublicInfo().size();
+		bulk.ingest(InfoTable.PUBLIC_INFO, InfoFormat.CSV, utf8("resource_id,contents\n1,\"  csv padded  \"\n"), BulkIngestService.Progress.NONE);
+		bulk.ingest(InfoTable.PUBLIC_INFO, InfoFormat.NDJSON, utf8("{\"contents\":\"  ndjson padded  \"}\n"), BulkIngestService.Progress.NONE);
+
+		assertThat(service.retrievePublicInfo()).hasSize(before + 2).contains("csv padded", "ndjson padded");
+	}
+
+	private static ByteArrayInputStream utf8(final String source) {
+		return new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
+	}
+}
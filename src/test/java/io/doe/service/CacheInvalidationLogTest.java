@@ -0,0 +1,145 @@
+package io.doe.service;
+
+import io.doe.ApplicationMain;
+import io.doe.domain.InfoTable;
+import io.doe.domain.PublicInfo;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see CacheInvalidationLogTest
+ * @since 2026-10-18
+ */
+
+class CacheInvalidationLogTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(10);
+
+	private static ConfigurableApplicationContext a;
+	private static ConfigurableApplicationContext b;
+	private static final List<ResourceChangedEvent> received = new CopyOnWriteArrayList<>();
+
+	@BeforeAll
+	static void startNodes() {
+
+		a = node("node-a");
+		b = node("node-b");
+		b.addApplicationListener(ApplicationListener.<ResourceChangedEvent>forPayload(received::add));
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		b.close(); a.close();
+	}
+
+	private static ConfigurableApplicationContext node(final String nodeId) {
+
+		return new SpringApplicationBuilder(ApplicationMain.class).run("--server.port=0", "--base.warmup.enabled=false", "--base.snapshot.enabled=true",
+				"--spring.datasource.url=jdbc:h2:mem:invalidation-test;DB_CLOSE_DELAY=-1;MODE=MySQL;", "--base.invalidation.node-id=" + nodeId, "--base.invalidation.poll-interval=50ms");
+	}
+
+	@Test
+	void writesOnOneNodeRefreshSnapshotAndSearchOnTheOther() throws Exception {
+
+		a.getBean(BulkIngestService.class).ingest(InfoTable.PUBLIC_INFO, ndjson("invalidation zebra one", "invalidation zebra two"));
+
+		await().atMost(WAIT).untilAsserted(() -> {
+			assertThat(b.getBean(ResourceService.class).retrievePublicInfo()).contains("invalidation zebra one", "invalidation zebra two");
+			assertThat(b.getBean(SearchService.class).searchPublicInfo("zebra", 10)).hasSize(2);
+		});
+
+		assertThat(b.getBean(ResourceService.class).retrievePublicVersion()).isEqualTo(a.getBean(ResourceService.class).retrievePublicVersion());
+	}
+
+	@Test
+	void remoteEntriesEvictTheEntityRegionAndOwnEntriesAreSkipped() throws Exception {
+
+		final int id = b.getBean(ResourceService.class).retrievePublicRow(1).resourceId();
+		final EntityManagerFactory emf = b.getBean(EntityManagerFactory.class);
+		assertThat(emf.getCache().contains(PublicInfo.class, id)).isTrue();
+
+		received.clear();
+		b.getBean(BulkIngestService.class).ingest(InfoTable.PUBLIC_INFO, ndjson("invalidation written on b"));
+		a.getBean(BulkIngestService.class).ingest(InfoTable.PUBLIC_INFO, ndjson("invalidation written on a"));
+
+		await().atMost(WAIT).untilAsserted(() -> assertThat(emf.getCache().contains(PublicInfo.class, id)).isFalse());
+		Thread.sleep(200);
+
+		assertThat(received).hasSize(2);
+	}
+
+	@Test
+	void entriesCommittedOutOfIdOrderAreNotLost() {
+
+		final JdbcTemplate jt = a.getBean(JdbcTemplate.class);
+		final TransactionTemplate tt = new TransactionTemplate(a.getBean(PlatformTransactionManager.class));
+		final long head = tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(LOG_ID), 0) FROM CACHE_INVALIDATION_LOG", Long.class)) + 100;
+
+		tt.executeWithoutResult(s -> jt.update("INSERT INTO CACHE_INVALIDATION_LOG (LOG_ID, TABLE_NAME, ROW_COUNT, NODE_ID) VALUES (?, 'PUBLIC_INFO', 7, 'node-x')", head + 2));
+		await().atMost(WAIT).until(() -> received.stream().anyMatch(e -> e.rows() == 7));
+
+		tt.executeWithoutResult(s -> jt.update("INSERT INTO CACHE_INVALIDATION_LOG (LOG_ID, TABLE_NAME, ROW_COUNT, NODE_ID) VALUES (?, 'SECRET_INFO', 11, 'node-x')", head + 1));
+		await().atMost(WAIT).until(() -> received.stream().anyMatch(e -> e.table() == InfoTable.SECRET_INFO && e.rows() == 11));
+	}
+
+	@Test
+	void failedDeliveriesAreRetried() {
+
+		final AtomicInteger attempts = new AtomicInteger();
+		b.addApplicationListener(ApplicationListener.<ResourceChangedEvent>forPayload(e -> {
+			if (e.rows() == 13 && attempts.incrementAndGet() == 1) { throw new IllegalStateException("listener down"); }
+		}));
+
+		append(head() + 1, "PUBLIC_INFO", 13);
+
+		await().atMost(WAIT).until(() -> attempts.get() == 2);
+		assertThat(received.stream().filter(e -> e.rows() == 13)).hasSize(2);
+	}
+
+	@Test
+	void tooManyGapsRebuildEveryTable() {
+
+		received.clear();
+		append(head() + 5_000, "SECRET_INFO", 17);
+
+		await().atMost(WAIT).until(() -> received.stream().filter(ResourceChangedEvent::rebuild).map(ResourceChangedEvent::table).distinct().count() == 2);
+		assertThat(received.stream().filter(e -> e.table() == InfoTable.SECRET_INFO && e.rebuild()).findFirst()).get().extracting(ResourceChangedEvent::rows).isEqualTo(17L);
+	}
+
+	private static long head() {
+		return new TransactionTemplate(a.getBean(PlatformTransactionManager.class)).execute(s -> a.getBean(JdbcTemplate.class).queryForObject("SELECT COALESCE(MAX(LOG_ID), 0) FROM CACHE_INVALIDATION_LOG", Long.class));
+	}
+
+	private static void append(final long logId, final String table, final long rows) {
+		new TransactionTemplate(a.getBean(PlatformTransactionManager.class)).executeWithoutResult(s -> a.getBean(JdbcTemplate.class)
+				.update("INSERT INTO CACHE_INVALIDATION_LOG (LOG_ID, TABLE_NAME, ROW_COUNT, NODE_ID) VALUES (?, ?, ?, 'node-x')", logId, table, rows));
+	}
+
+	private static ByteArrayInputStream ndjson(final String... contents) {
+
+		final StringBuilder sb = new StringBuilder();
+		for (final String c : contents) { sb.append("{\"contents\":\"").append(c).append("\"}\n"); }
+
+		return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,98 @@
+package io.doe.service;
+
+import io.doe.ApplicationMain;
+import io.doe.domain.InfoTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ChangeFeedServiceTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties={"base.warmup.enabled=false", "base.feed.buffer-size=2"})
+class ChangeFeedServiceTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(10);
+
+	private final ChangeFeedService feed;
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final ApplicationEventPublisher publisher;
+
+	@Autowired
+	ChangeFeedServiceTest(final ChangeFeedService feed, final JdbcTemplate jt, final PlatformTransactionManager tm, final ApplicationEventPublisher publisher) {
+		this.feed = feed; this.jt = jt; this.tt = new TransactionTemplate(tm); this.publisher = publisher;
+	}
+
+	@Test
+	void rowsCommittedBelowTheCursorAreStillDelivered() {
+
+		final List<Integer> received = new CopyOnWriteArrayList<>();
+		final List<Integer> eventIds = new CopyOnWriteArrayList<>();
+		final ChangeFeedService.Subscription subscription = feed.subscribe(InfoTable.SECRET_INFO, null, null, (e, id) -> { received.add(e.resourceId()); eventIds.add(id); });
+
+		try {
+			final int head = Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM SECRET_INFO", Integer.class))) + 100;
+			publisher.publishEvent(new ResourceChangedEvent(InfoTable.SECRET_INFO, 0));
+
+			commit(head + 2, "feed late");
+			await().atMost(WAIT).until(() -> received.contains(head + 2));
+
+			commit(head + 1, "feed early");
+			await().atMost(WAIT).until(() -> received.contains(head + 1));
+
+			assertThat(received).containsExactly(head + 2, head + 1);
+			assertThat(eventIds).containsExactly(head + 2, head + 2);
+		} finally {
+			subscription.cancel();
+		}
+	}
+
+	@Test
+	void lateRowsBeyondTheBufferArePagedAgainWithoutMovingTheEventIdBack() {
+
+		final List<Integer> received = new CopyOnWriteArrayList<>();
+		final List<Integer> eventIds = new CopyOnWriteArrayList<>();
+		final ChangeFeedService.Subscription subscription = feed.subscribe(InfoTable.SECRET_INFO, null, null, (e, id) -> { received.add(e.resourceId()); eventIds.add(id); });
+
+		try {
+			final int head = Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM SECRET_INFO", Integer.class))) + 100;
+			publisher.publishEvent(new ResourceChangedEvent(InfoTable.SECRET_INFO, 0));
+
+			commit(head + 5, "feed ahead");
+			await().atMost(WAIT).until(() -> received.contains(head + 5));
+
+			commit(head + 1, "feed late 1", head + 2, "feed late 2", head + 3, "feed late 3");
+			await().atMost(WAIT).until(() -> received.containsAll(List.of(head + 1, head + 2, head + 3)));
+
+			assertThat(eventIds).isSorted().allSatisfy(id -> assertThat(id).isEqualTo(head + 5));
+		} finally {
+			subscription.cancel();
+		}
+	}
+
+	private void commit(final Object... rows) {
+
+		tt.executeWithoutResult(s -> { for (int i = 0; i < rows.length; i += 2) { jt.update("INSERT INTO SECRET_INFO (RESOURCE_ID, CONTENTS) VALUES (?, ?)", rows[i], rows[i + 1]); } });
+		publisher.publishEvent(new ResourceChangedEvent(InfoTable.SECRET_INFO, rows.length / 2));
+	}
+}
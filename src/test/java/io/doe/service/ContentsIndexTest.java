@@ -0,0 +1,45 @@
+package io.doe.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ContentsIndexTest
+ * @since 2026-10-18
+ */
+
+class ContentsIndexTest {
+
+	private final ContentsIndex index = new ContentsIndex();
+
+	ContentsIndexTest() {
+		index.add(1, "Public Info, first entry");
+		index.add(2, "public-info public info again");
+		index.add(3, "Secret notes");
+		index.add(7, "informational public notice");
+	}
+
+	@Test
+	void tokenizesOnNonAlphanumericsAndLowercases() {
+		assertThat(ContentsIndex.tokenize("Hello, WORLD-42 ünï")).containsExactly("hello", "world", "42", "ünï");
+	}
+
+	@Test
+	void requiresEveryTermAndRanksByFrequency() {
+
+		assertThat(index.search("public info", 10)).extracting(ContentsIndex.Hit::resourceId).containsExactly(2, 1);
+		assertThat(index.search("public missing", 10)).isEmpty();
+	}
+
+	@Test
+	void expandsPrefixQueriesAndKeepsTopK() {
+
+		assertThat(index.search("inf*", 10)).extracting(ContentsIndex.Hit::resourceId).containsExactlyInAnyOrder(1, 2, 7);
+		assertThat(index.search("inf* notice", 10)).extracting(ContentsIndex.Hit::resourceId).containsExactly(7);
+		assertThat(index.search("inf*", 1)).hasSize(1);
+		assertThat(index.watermark()).isEqualTo(7);
+	}
+}
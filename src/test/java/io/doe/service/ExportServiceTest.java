@@ -0,0 +1,101 @@
+package io.doe.service;
+
+import io.doe.ApplicationMain;
+import io.doe.domain.InfoFormat;
+import io.doe.domain.InfoTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ExportServiceTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="base.warmup.enabled=false")
+class ExportServiceTest {
+
+	@TempDir
+	static Path snapshotDir;
+
+	private final ExportService exports;
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+
+	@Autowired
+	ExportServiceTest(final ExportService exports, final JdbcTemplate jt, final PlatformTransactionManager tm) {
+		this.exports = exports; this.jt = jt; this.tt = new TransactionTemplate(tm);
+	}
+
+	@DynamicPropertySource
+	static void registerSnapshotDir(final DynamicPropertyRegistry registry) {
+		registry.add("base.export.snapshot-dir", () -> snapshotDir.toString());
+	}
+
+	@Test
+	void csvFieldsAreQuotedOnlyWhenTheyNeedIt() throws Exception {
+
+		final int id = insert("PUBLIC_INFO", maxId("PUBLIC_INFO") + 1, "export \"quoted\", with comma\nand line");
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		exports.export(InfoTable.PUBLIC_INFO, InfoFormat.CSV, out);
+		final String csv = out.toString(StandardCharsets.UTF_8);
+
+		assertThat(csv).startsWith("RESOURCE_ID,CONTENTS,CREATE_DT\n");
+		assertThat(csv).contains(id + ",\"export \"\"quoted\"\", with comma\nand line\",");
+	}
+
+	@Test
+	void snapshotsAreReusedPerVersionAndOldOnesPruned() throws Exception {
+
+		final ExportService.Snapshot first = exports.snapshot(InfoTable.SECRET_INFO, InfoFormat.NDJSON);
+		assertThat(exports.snapshot(InfoTable.SECRET_INFO, InfoFormat.NDJSON).path()).isEqualTo(first.path());
+
+		final int head = maxId("SECRET_INFO") + 100;
+		insert("SECRET_INFO", head + 2, "export late");
+		final ExportService.Snapshot second = exports.snapshot(InfoTable.SECRET_INFO, InfoFormat.NDJSON);
+
+		insert("SECRET_INFO", head + 1, "export early");
+		final ExportService.Snapshot third = exports.snapshot(InfoTable.SECRET_INFO, InfoFormat.NDJSON);
+
+		assertThat(third.path()).isNotEqualTo(second.path());
+		assertThat(third.version().changes()).isEqualTo(second.version().changes() + 1);
+
+		try (final Stream<Path> files = Files.list(snapshotDir)) {
+			assertThat(files.filter(p -> p.getFileName().toString().startsWith("secret_info-") && p.getFileName().toString().endsWith(".ndjson.gz")))
+					.containsExactlyInAnyOrder(second.path(), third.path());
+		}
+	}
+
+	private int maxId(final String table) {
+		return Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM " + table, Integer.class)));
+	}
+
+	private int insert(final String table, final int resourceId, final String contents) {
+		tt.executeWithoutResult(s -> {
+			jt.update("INSERT INTO " + table + " (RESOURCE_ID, CONTENTS) VALUES (?, ?)", resourceId, contents);
+			jt.update("UPDATE INFO_WRITE_COUNT SET WRITES = WRITES + 1 WHERE TABLE_NAME = ?", table);
+		});
+		return resourceId;
+	}
+}
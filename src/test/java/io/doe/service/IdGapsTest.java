@@ -0,0 +1,77 @@
+package io.doe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see IdGapsTest
+ * @since 2026-10-18
+ */
+
+class IdGapsTest {
+
+	private final IdGaps gaps = new IdGaps(Duration.ofNanos(100), 2);
+
+	@Test
+	void skippedIdsStayOpenUntilTheyShowUp() {
+
+		gaps.advance(1, 0); gaps.advance(5, 0); gaps.advance(6, 0); gaps.advance(4, 0);
+
+		assertThat(gaps.high()).isEqualTo(6);
+		assertThat(gaps.open()).containsExactly(new IdGaps.Gap(2, 4, 0));
+
+		gaps.fill(gaps.open().getFirst(), List.of(3));
+		assertThat(gaps.open()).containsExactly(new IdGaps.Gap(2, 2, 0), new IdGaps.Gap(4, 4, 0));
+
+		gaps.fill(gaps.open().getFirst(), List.of(2));
+		gaps.fill(gaps.open().getFirst(), List.of(4));
+		assertThat(gaps.open()).isEmpty();
+	}
+
+	@Test
+	void gapsAreGivenUpAfterTheTimeoutOrWhenThereAreTooMany() {
+
+		gaps.advance(2, 0); gaps.advance(4, 50); gaps.advance(6, 60); gaps.advance(8, 70);
+
+		assertThat(gaps.expire(120)).isEqualTo(2);
+		assertThat(gaps.open()).containsExactly(new IdGaps.Gap(5, 5, 60), new IdGaps.Gap(7, 7, 70));
+		assertThat(gaps.expire(1_000)).isEqualTo(2);
+		assertThat(gaps.open()).isEmpty();
+	}
+
+	@Test
+	void catchUpFillsGapsThenPagesPastTheHighMark() {
+
+		final List<Integer> table = new ArrayList<>(List.of(1, 2, 4, 5, 6, 7));
+		final List<String> reads = new ArrayList<>();
+
+		final IdGaps.Reader reader = new IdGaps.Reader() {
+			@Override
+			public List<Integer> between(final int from, final int to) {
+				reads.add(from + ".." + to); return table.stream().filter(id -> id >= from && id <= to).toList();
+			}
+
+			@Override
+			public List<Integer> after(final int id, final int limit) {
+				reads.add(">" + id); return table.stream().filter(i -> i > id).limit(limit).toList();
+			}
+		};
+
+		gaps.catchUp(reader, 2, 0);
+		assertThat(gaps.high()).isEqualTo(7);
+		assertThat(gaps.open()).containsExactly(new IdGaps.Gap(3, 3, 0));
+		assertThat(reads).containsExactly(">0", ">2", ">5", ">7");
+
+		table.add(3); reads.clear();
+		gaps.catchUp(reader, 2, 0);
+		assertThat(gaps.open()).isEmpty();
+		assertThat(reads).containsExactly("3..3", ">7");
+	}
+}
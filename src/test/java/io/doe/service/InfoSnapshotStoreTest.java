@@ -0,0 +1,75 @@
+package io.doe.service;
+
+import io.doe.ApplicationMain;
+import io.doe.domain.InfoTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see InfoSnapshotStoreTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties={"base.warmup.enabled=false", "base.snapshot.enabled=true", "base.catch-up.gap-timeout=100ms"})
+class InfoSnapshotStoreTest {
+
+	private final ResourceService service;
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final ApplicationEventPublisher publisher;
+
+	@Autowired
+	InfoSnapshotStoreTest(final ResourceService service, final JdbcTemplate jt, final PlatformTransactionManager tm, final ApplicationEventPublisher publisher) {
+		this.service = service; this.jt = jt; this.tt = new TransactionTemplate(tm); this.publisher = publisher;
+	}
+
+	@Test
+	void rowsCommittedBelowTheWatermarkJoinTheSnapshot() {
+
+		final int head = Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM SECRET_INFO", Integer.class))) + 100;
+
+		commit(head + 2, "snapshot late");
+		assertThat(service.retrieveSecretInfo()).contains("snapshot late").doesNotContain("snapshot early");
+
+		commit(head + 1, "snapshot early");
+		assertThat(service.retrieveSecretInfo()).contains("snapshot late", "snapshot early");
+		assertThat(service.retrieveSecretVersion().maxResourceId()).isEqualTo(head + 2);
+		assertThat(service.retrieveSecretVersion().changes()).isEqualTo(tt.execute(s -> jt.queryForObject("SELECT COUNT(*) FROM SECRET_INFO", Long.class)));
+	}
+
+	@Test
+	void rowsCommittedAfterTheirGapTimedOutComeBackWithARebuild() throws Exception {
+
+		final int head = Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM SECRET_INFO", Integer.class))) + 100;
+
+		commit(head + 2, "rebuild late");
+		Thread.sleep(200);
+		publisher.publishEvent(new ResourceChangedEvent(InfoTable.SECRET_INFO, 0));
+
+		commit(head + 1, "rebuild early");
+		assertThat(service.retrieveSecretInfo()).doesNotContain("rebuild early");
+
+		publisher.publishEvent(new ResourceChangedEvent(InfoTable.SECRET_INFO, 0, true));
+		assertThat(service.retrieveSecretInfo()).contains("rebuild late", "rebuild early");
+		assertThat(service.retrieveSecretVersion().changes()).isEqualTo(tt.execute(s -> jt.queryForObject("SELECT COUNT(*) FROM SECRET_INFO", Long.class)));
+	}
+
+	private void commit(final int resourceId, final String contents) {
+		tt.executeWithoutResult(s -> jt.update("INSERT INTO SECRET_INFO (RESOURCE_ID, CONTENTS) VALUES (?, ?)", resourceId, contents));
+		publisher.publishEvent(new ResourceChangedEvent(InfoTable.SECRET_INFO, 1));
+	}
+}
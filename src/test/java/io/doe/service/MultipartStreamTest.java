@@ -0,0 +1,123 @@
+package io.doe.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see MultipartStreamTest
+ * @since 2026-10-18
+ */
+
+class MultipartStreamTest {
+
+	private static final String BOUNDARY = "----b0undary";
+	private static final int SMALL = 128;
+
+	@Test
+	void delimitersSplitAcrossBufferRefillsAreFound() throws Exception {
+
+		for (int size = 0; size < 200; size++) {
+
+			final String body = "x".repeat(size) + "\r\n-" + "y".repeat(size % 7);
+			final List<String> parts = readAll(trickle(multipart("", part("a.csv", body), part("b.csv", "second"))), SMALL);
+
+			assertThat(parts).as("body of %d bytes", size).containsExactly(body, "second");
+		}
+	}
+
+	@Test
+	void headersLargerThanTheBufferAreRejected() {
+
+		final String headers = "Content-Disposition: form-data; name=\"file\"; filename=\"a.csv\"\r\nX-Padding: " + "p".repeat(512) + "\r\n\r\n";
+		final byte[] source = ("--" + BOUNDARY + "\r\n" + headers + "body\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> readAll(new ByteArrayInputStream(source), SMALL))
+				.isInstanceOf(MultipartStream.MalformedException.class).hasMessageStartingWith("Part headers exceed");
+	}
+
+	@Test
+	void thePreambleIsSkipped() throws Exception {
+		assertThat(readAll(new ByteArrayInputStream(multipart("This is a preamble.\r\nIt spans lines.", part("a.csv", "only"))), SMALL)).containsExactly("only");
+	}
+
+	@Test
+	void aStreamEndingInsideAPartIsRejected() {
+
+		final byte[] source = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"a.csv\"\r\n\r\ntruncated bo").getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> readAll(new ByteArrayInputStream(source), SMALL))
+				.isInstanceOf(MultipartStream.MalformedException.class).hasMessage("Multipart stream ended inside a part");
+	}
+
+	@Test
+	void quotedBoundariesAreUnquoted() throws Exception {
+
+		assertThat(MultipartStream.boundary(MediaType.parseMediaType("multipart/form-data; boundary=\"" + BOUNDARY + "\""))).isEqualTo(BOUNDARY);
+		assertThat(MultipartStream.boundary(MediaType.parseMediaType("multipart/form-data; boundary=" + BOUNDARY))).isEqualTo(BOUNDARY);
+		assertThatThrownBy(() -> MultipartStream.boundary(MediaType.MULTIPART_FORM_DATA)).isInstanceOf(MultipartStream.MalformedException.class);
+	}
+
+	@Test
+	void partsLeftUnreadAreSkipped() throws Exception {
+
+		final MultipartStream stream = new MultipartStream(new ByteArrayInputStream(multipart("", part("a.csv", "first\r\n--not-it"), part("b.csv", "second"))), BOUNDARY, SMALL);
+
+		final MultipartStream.Part first = Objects.requireNonNull(stream.next());
+		assertThat(first.filename()).isEqualTo("a.csv");
+		assertThat(first.body().read()).isEqualTo('f');
+
+		final MultipartStream.Part second = Objects.requireNonNull(stream.next());
+		assertThat(second.filename()).isEqualTo("b.csv");
+		assertThat(second.contentType()).isEqualTo("text/csv");
+		assertThat(new String(second.body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("second");
+		assertThat(stream.next()).isNull();
+	}
+
+	private static List<String> readAll(final InputStream source, final int bufferSize) throws IOException {
+
+		final MultipartStream stream = new MultipartStream(source, BOUNDARY, bufferSize);
+		final List<String> bodies = new ArrayList<>();
+
+		for (MultipartStream.Part p = stream.next(); Objects.nonNull(p); p = stream.next()) { bodies.add(new String(p.body().readAllBytes(), StandardCharsets.UTF_8)); }
+
+		return bodies;
+	}
+
+	private static String part(final String filename, final String body) {
+		return "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\nContent-Type: text/csv\r\n\r\n" + body;
+	}
+
+	private static byte[] multipart(final String preamble, final String... parts) {
+
+		final StringBuilder sb = new StringBuilder(preamble.isEmpty() ? "" : preamble + "\r\n");
+		for (final String p : parts) { sb.append("--").append(BOUNDARY).append("\r\n").append(p).append("\r\n"); }
+		sb.append("--").append(BOUNDARY).append("--\r\n");
+
+		return sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/* hands out at most three bytes per read so every refill path gets exercised */
+	private static InputStream trickle(final byte[] source) {
+
+		return new FilterInputStream(new ByteArrayInputStream(source)) {
+			@Override
+			public int read(final byte[] b, final int off, final int len) throws IOException {
+				return super.read(b, off, Math.min(len, 3));
+			}
+		};
+	}
+}
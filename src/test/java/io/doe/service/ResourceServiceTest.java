@@ -0,0 +1,79 @@
+package io.doe.service;
+
+import io.doe.ApplicationMain;
+import io.doe.domain.InfoRow;
+import io.doe.domain.InfoTable;
+import io.doe.domain.ResourceVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ResourceServiceTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="base.warmup.enabled=false")
+class ResourceServiceTest {
+
+	private final ResourceService service;
+	private final BulkIngestService bulk;
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+
+	@Autowired
+	ResourceServiceTest(final ResourceService service, final BulkIngestService bulk, final JdbcTemplate jt, final PlatformTransactionManager tm) {
+		this.service = service; this.bulk = bulk; this.jt = jt; this.tt = new TransactionTemplate(tm);
+	}
+
+	@Test
+	void versionMovesWhenARowCommitsBelowTheMaxId() {
+
+		final int head = Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM PUBLIC_INFO", Integer.class))) + 100;
+
+		insert(head + 2, "version late");
+		final ResourceVersion before = service.retrievePublicVersion();
+
+		insert(head + 1, "version early");
+		final ResourceVersion after = service.retrievePublicVersion();
+
+		assertThat(after.maxResourceId()).isEqualTo(before.maxResourceId());
+		assertThat(after.changes()).isEqualTo(before.changes() + 1);
+		assertThat(after.etag()).isNotEqualTo(before.etag());
+	}
+
+	@Test
+	void blankContentsAreRejectedAtIngestAndSkippedByEveryListing() throws Exception {
+
+		assertThat(bulk.ingest(InfoTable.PUBLIC_INFO, new ByteArrayInputStream("{\"contents\":\"\\t\\n\"}\n".getBytes(StandardCharsets.UTF_8))).rejected()).isEqualTo(1);
+
+		final int head = Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM PUBLIC_INFO", Integer.class))) + 100;
+		insert(head + 1, "   ");
+
+		assertThat(service.retrievePublicInfo()).doesNotContain("   ");
+		assertThat(service.retrievePublicRows(EnumSet.of(InfoRow.Field.RESOURCE_ID))).extracting(InfoRow::resourceId).doesNotContain(head + 1);
+		assertThat(service.retrievePublicRows(EnumSet.allOf(InfoRow.Field.class))).extracting(InfoRow::contents).doesNotContain("   ");
+	}
+
+	private void insert(final int resourceId, final String contents) {
+		tt.executeWithoutResult(s -> {
+			jt.update("INSERT INTO PUBLIC_INFO (RESOURCE_ID, CONTENTS) VALUES (?, ?)", resourceId, contents);
+			jt.update("UPDATE INFO_WRITE_COUNT SET WRITES = WRITES + 1 WHERE TABLE_NAME = 'PUBLIC_INFO'");
+		});
+	}
+}
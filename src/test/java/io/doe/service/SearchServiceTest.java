@@ -0,0 +1,56 @@
+package io.doe.service;
+
+import io.doe.ApplicationMain;
+import io.doe.domain.InfoTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see SearchServiceTest
+ * @since 2026-10-18
+ */
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="base.warmup.enabled=false")
+class SearchServiceTest {
+
+	private final SearchService search;
+	private final JdbcTemplate jt;
+	private final TransactionTemplate tt;
+	private final ApplicationEventPublisher publisher;
+
+	@Autowired
+	SearchServiceTest(final SearchService search, final JdbcTemplate jt, final PlatformTransactionManager tm, final ApplicationEventPublisher publisher) {
+		this.search = search; this.jt = jt; this.tt = new TransactionTemplate(tm); this.publisher = publisher;
+	}
+
+	@Test
+	void rowsCommittedBelowTheWatermarkAreIndexed() {
+
+		final int head = Objects.requireNonNull(tt.execute(s -> jt.queryForObject("SELECT COALESCE(MAX(RESOURCE_ID), 0) FROM PUBLIC_INFO", Integer.class))) + 100;
+
+		commit(head + 2, "gapped quokka late");
+		assertThat(search.searchPublicInfo("quokka", 10)).hasSize(1);
+
+		commit(head + 1, "gapped quokka early");
+		assertThat(search.searchPublicInfo("quokka", 10)).hasSize(2);
+	}
+
+	private void commit(final int resourceId, final String contents) {
+		tt.executeWithoutResult(s -> jt.update("INSERT INTO PUBLIC_INFO (RESOURCE_ID, CONTENTS) VALUES (?, ?)", resourceId, contents));
+		publisher.publishEvent(new ResourceChangedEvent(InfoTable.PUBLIC_INFO, 1));
+	}
+}
@@ -0,0 +1,188 @@
+package io.doe.web;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.doe.ApplicationMain;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author <loonabus@gmail.com>
+ * @version 1.0.0
+ * @see ResourceServerControllerTest
+ * @since 2026-10-18
+ */
+
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes=ApplicationMain.class, properties="base.warmup.enabled=false")
+class ResourceServerControllerTest {
+
+	private static final KeyPair KEYS = generateKeyPair();
+
+	private final MockMvc mvc;
+
+	@Autowired
+	ResourceServerControllerTest(final MockMvc mvc) {
+		this.mvc = mvc;
+	}
+
+	@DynamicPropertySource
+	static void registerPublicKey(final DynamicPropertyRegistry registry) throws Exception {
+
+		final Path path = Files.createTempFile("rsa", ".pub");
+		Files.writeString(path, Base64.getEncoder().encodeToString(KEYS.getPublic().getEncoded()));
+		path.toFile().deleteOnExit();
+
+		registry.add("base.auth.rsa-path", () -> path.toUri().toString());
+	}
+
+	@Test
+	void noEnvelopeWritesProjectedRowsBare() throws Exception {
+
+		mvc.perform(get("/rest/v1/resource/public").param("fields", "resource_id,create_dt").param("envelope", "none").header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isOk()).andExpect(jsonPath("$").isArray())
+				.andExpect(jsonPath("$[0].resource_id").isNumber()).andExpect(jsonPath("$[0].create_dt").exists()).andExpect(jsonPath("$[0].contents").doesNotExist());
+	}
+
+	@Test
+	void errorsKeepTheirEnvelopeWhenNoneIsAsked() throws Exception {
+
+		mvc.perform(get("/rest/v1/resource/public/{id}", Integer.MAX_VALUE).param("envelope", "none").header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isNotFound()).andExpect(jsonPath("$.code").exists()).andExpect(jsonPath("$.message").isNotEmpty());
+
+		mvc.perform(get("/rest/v1/resource/public").header("X-Envelope", "none").param("fields", "resource_id,password").header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isBadRequest()).andExpect(jsonPath("$.code").exists()).andExpect(jsonPath("$.message").isNotEmpty());
+	}
+
+	@Test
+	void multiGetAnswersInRequestOrderAndListsMissingIdsOnce() throws Exception {
+
+		mvc.perform(post("/rest/v1/resource/public/_mget").contentType(MediaType.APPLICATION_JSON).content("{\"ids\":[2147483646,1,2147483646]}").header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.data.rows[*].resource_id").value(contains(1)))
+				.andExpect(jsonPath("$.data.missing").value(contains(2147483646)));
+
+		mvc.perform(post("/rest/v1/resource/public/_mget").contentType(MediaType.APPLICATION_JSON).content("{\"ids\":[]}").header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void matchingEtagAnswersNotModifiedWithoutABody() throws Exception {
+
+		final String etag = mvc.perform(get("/rest/v1/resource/public").header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isOk()).andExpect(header().exists(HttpHeaders.ETAG)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(get("/rest/v1/resource/public").header(HttpHeaders.IF_NONE_MATCH, Objects.requireNonNull(etag)).header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isNotModified()).andExpect(header().string(HttpHeaders.ETAG, etag)).andExpect(header().stringValues(HttpHeaders.VARY, hasItem(CompactResponseAdvice.ENVELOPE_HEADER)))
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void everyEnvelopedResponseVariesOnTheEnvelopeHeader() throws Exception {
+
+		mvc.perform(get("/rest/v1/resource/public/{id}", 1).header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isOk()).andExpect(header().stringValues(HttpHeaders.VARY, hasItem(CompactResponseAdvice.ENVELOPE_HEADER)));
+
+		mvc.perform(get("/rest/v1/resource/public").header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isOk()).andExpect(header().stringValues(HttpHeaders.VARY, hasItem(CompactResponseAdvice.ENVELOPE_HEADER)));
+	}
+
+	@Test
+	void asyncVariantAnswersNotModifiedFromItsTask() throws Exception {
+
+		final MvcResult first = mvc.perform(get("/rest/v1/resource/public/async").header(HttpHeaders.AUTHORIZATION, bearer())).andExpect(request().asyncStarted()).andReturn();
+		final String etag = mvc.perform(asyncDispatch(first)).andExpect(status().isOk()).andExpect(header().exists(HttpHeaders.ETAG)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		final MvcResult second = mvc.perform(get("/rest/v1/resource/public/async").header(HttpHeaders.IF_NONE_MATCH, Objects.requireNonNull(etag)).header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(request().asyncStarted()).andReturn();
+		mvc.perform(asyncDispatch(second)).andExpect(status().isNotModified()).andExpect(content().string(""));
+	}
+
+	@Test
+	void uploadedFilePartsAreIngestedAndTheSnapshotIsDownloadedConditionally() throws Exception {
+
+		final String body = """
+				--b0undary\r
+				Content-Disposition: form-data; name="note"\r
+				\r
+				not a file\r
+				--b0undary\r
+				Content-Disposition: form-data; name="file"; filename="rows.csv"\r
+				Content-Type: text/csv\r
+				\r
+				CONTENTS
+				uploaded through the service
+				uploaded once more
+				\r
+				--b0undary--\r
+				""";
+
+		mvc.perform(post("/rest/v1/resource/public/_upload").contentType("multipart/form-data; boundary=b0undary").content(body).header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.data.length()").value(1)).andExpect(jsonPath("$.data[0].rows").value(2));
+
+		final MvcResult snapshot = mvc.perform(get("/rest/v1/resource/public/_export/snapshot").header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isOk()).andExpect(content().contentType("application/gzip")).andExpect(header().exists(HttpHeaders.ETAG)).andReturn();
+		final byte[] gzip = snapshot.getResponse().getContentAsByteArray();
+		assertThat(gzip).hasSize((int)Long.parseLong(Objects.requireNonNull(snapshot.getResponse().getHeader(HttpHeaders.CONTENT_LENGTH)))).startsWith(0x1f, 0x8b);
+
+		mvc.perform(get("/rest/v1/resource/public/_export/snapshot").header(HttpHeaders.IF_NONE_MATCH, Objects.requireNonNull(snapshot.getResponse().getHeader(HttpHeaders.ETAG)))
+						.header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(status().isNotModified()).andExpect(content().string(""));
+	}
+
+	private static String bearer() throws Exception {
+
+		final JWTClaimsSet claims = new JWTClaimsSet.Builder().subject("controller").claim("scope", "resource:read ADMIN")
+				.issueTime(new Date()).expirationTime(Date.from(Instant.now().plusSeconds(60))).build();
+
+		final SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+		jwt.sign(new RSASSASigner(KEYS.getPrivate()));
+
+		return "Bearer " + jwt.serialize();
+	}
+
+	private static KeyPair generateKeyPair() {
+
+		try {
+			final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return generator.generateKeyPair();
+		} catch (final Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}